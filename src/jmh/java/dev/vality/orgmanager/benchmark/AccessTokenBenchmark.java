@@ -0,0 +1,73 @@
+package dev.vality.orgmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.orgmanager.security.AccessTokenAuthentication;
+import dev.vality.orgmanager.service.KeycloakService;
+import org.keycloak.representations.AccessToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares claims conversion on every {@link KeycloakService#getAccessToken()} call with the token
+ * pre-parsed once by the authentication converter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenBenchmark {
+
+    private KeycloakService keycloakService;
+    private JwtAuthenticationToken jwtAuthentication;
+    private AccessTokenAuthentication accessTokenAuthentication;
+
+    @Setup
+    public void setUp() {
+        keycloakService = new KeycloakService(new ObjectMapper());
+        Instant now = Instant.now();
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .id(UUID.randomUUID().toString())
+                .subject(UUID.randomUUID().toString())
+                .issuer("http://keycloak:8080/auth/realms/internal")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .claim("typ", "Bearer")
+                .claim("azp", "common-api")
+                .claim("email", "user@vality.dev")
+                .claim("email_verified", true)
+                .claim("preferred_username", "user")
+                .claim("realm_access", Map.of("roles", List.of("offline_access", "uma_authorization")))
+                .claim("resource_access", Map.of("common-api", Map.of("roles", List.of("party:read"))))
+                .build();
+        jwtAuthentication = new JwtAuthenticationToken(jwt);
+        accessTokenAuthentication = new AccessTokenAuthentication(jwt, List.of(), keycloakService.toAccessToken(jwt));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public AccessToken convertOnEveryCall() {
+        SecurityContextHolder.getContext().setAuthentication(jwtAuthentication);
+        return keycloakService.getAccessToken();
+    }
+
+    @Benchmark
+    public AccessToken preParsedOnAuthentication() {
+        SecurityContextHolder.getContext().setAuthentication(accessTokenAuthentication);
+        return keycloakService.getAccessToken();
+    }
+}
@@ -0,0 +1,174 @@
+package dev.vality.orgmanager.benchmark;
+
+import dev.vality.bouncer.base.Entity;
+import dev.vality.bouncer.context.v1.ContextFragment;
+import dev.vality.bouncer.context.v1.OrgRole;
+import dev.vality.bouncer.context.v1.OrgRoleScope;
+import dev.vality.bouncer.context.v1.Organization;
+import dev.vality.bouncer.context.v1.User;
+import dev.vality.orgmanager.entity.InvitationEntity;
+import dev.vality.orgmanager.entity.MemberEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
+import dev.vality.orgmanager.entity.OrganizationEntity;
+import dev.vality.orgmanager.service.dto.MemberWithRoleDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkFixtures {
+
+    public static ContextFragment userFragment(int orgs, int rolesPerOrg) {
+        return new ContextFragment().setUser(user(orgs, rolesPerOrg));
+    }
+
+    public static User user(int orgs, int rolesPerOrg) {
+        Set<Organization> organizations = new HashSet<>();
+        for (int i = 0; i < orgs; i++) {
+            Set<OrgRole> roles = new HashSet<>();
+            for (int j = 0; j < rolesPerOrg; j++) {
+                roles.add(new OrgRole()
+                        .setId("Manager")
+                        .setScope(new OrgRoleScope().setShop(new Entity().setId(randomId()))));
+            }
+            organizations.add(new Organization()
+                    .setId(randomId())
+                    .setOwner(new Entity().setId(randomId()))
+                    .setParty(new Entity().setId(randomId()))
+                    .setRoles(roles));
+        }
+        return new User()
+                .setId(randomId())
+                .setEmail("user@vality.dev")
+                .setOrgs(organizations);
+    }
+
+    public static MemberEntity memberEntity(int orgs, int rolesPerOrg) {
+        Set<MemberRoleEntity> roles = new HashSet<>();
+        Set<OrganizationEntity> organizations = new HashSet<>();
+        for (int i = 0; i < orgs; i++) {
+            OrganizationEntity organization = organizationEntity();
+            organizations.add(organization);
+            for (int j = 0; j < rolesPerOrg; j++) {
+                roles.add(memberRoleEntity(organization.getId()));
+            }
+        }
+        MemberEntity member = new MemberEntity();
+        member.setId(randomId());
+        member.setEmail("user@vality.dev");
+        member.setRoles(roles);
+        member.setOrganizations(organizations);
+        return member;
+    }
+
+    public static OrganizationEntity organizationEntity() {
+        return OrganizationEntity.builder()
+                .id(randomId())
+                .createdAt(LocalDateTime.now())
+                .name("organization")
+                .owner(randomId())
+                .party(randomId())
+                .build();
+    }
+
+    public static MemberRoleEntity memberRoleEntity(String orgId) {
+        return MemberRoleEntity.builder()
+                .id(randomId())
+                .organizationId(orgId)
+                .roleId("Manager")
+                .scopeId("Shop")
+                .resourceId(randomId())
+                .active(true)
+                .build();
+    }
+
+    /**
+     * Rows of the organization members query, ordered by member as the query returns them.
+     */
+    public static List<MemberWithRoleDto> memberRows(int members, int rolesPerMember) {
+        String orgId = randomId();
+        List<MemberWithRoleDto> rows = new ArrayList<>(members * rolesPerMember);
+        for (int i = 0; i < members; i++) {
+            String memberId = randomId();
+            String email = "member" + i + "@vality.dev";
+            for (int j = 0; j < rolesPerMember; j++) {
+                rows.add(new MemberRow(memberId, email, randomId(), orgId, "Manager", "Shop", randomId()));
+            }
+        }
+        return rows;
+    }
+
+    public static InvitationEntity invitationEntity(int roles, int metadataEntries) {
+        String orgId = randomId();
+        Set<MemberRoleEntity> inviteeRoles = new HashSet<>();
+        for (int i = 0; i < roles; i++) {
+            inviteeRoles.add(memberRoleEntity(orgId));
+        }
+        StringBuilder metadata = new StringBuilder("{");
+        for (int i = 0; i < metadataEntries; i++) {
+            metadata.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":\"value").append(i).append('"');
+        }
+        metadata.append('}');
+        return InvitationEntity.builder()
+                .id(randomId())
+                .organizationId(orgId)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .acceptToken(randomId())
+                .metadata(metadata.toString())
+                .inviteeContactType("Email")
+                .inviteeContactEmail("invitee@vality.dev")
+                .status("Pending")
+                .inviteeRoles(inviteeRoles)
+                .build();
+    }
+
+    public static String randomId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private record MemberRow(String id, String email, String memberRoleId, String organizationId, String roleId,
+                             String scopeId, String resourceId) implements MemberWithRoleDto {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getMemberRoleId() {
+            return memberRoleId;
+        }
+
+        @Override
+        public String getOrganizationId() {
+            return organizationId;
+        }
+
+        @Override
+        public String getRoleId() {
+            return roleId;
+        }
+
+        @Override
+        public String getScopeId() {
+            return scopeId;
+        }
+
+        @Override
+        public String getResourceId() {
+            return resourceId;
+        }
+    }
+}
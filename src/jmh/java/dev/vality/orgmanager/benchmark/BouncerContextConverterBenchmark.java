@@ -0,0 +1,65 @@
+package dev.vality.orgmanager.benchmark;
+
+import dev.vality.bouncer.context.v1.Organization;
+import dev.vality.bouncer.context.v1.User;
+import dev.vality.orgmanager.converter.BouncerContextConverter;
+import dev.vality.orgmanager.entity.MemberEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
+import dev.vality.orgmanager.entity.OrganizationEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the bouncer {@link User} for a member with roles across many organizations: filtering the
+ * whole role set per organization, grouping roles once per conversion, and roles pre-grouped at load time.
+ * Run with {@code -prof gc} to see allocation per conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BouncerContextConverterBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int orgs;
+
+    @Param({"3"})
+    private int rolesPerOrg;
+
+    private BouncerContextConverter converter;
+    private MemberEntity member;
+    private Map<String, List<MemberRoleEntity>> rolesByOrganization;
+
+    @Setup
+    public void setUp() {
+        converter = new BouncerContextConverter();
+        member = BenchmarkFixtures.memberEntity(orgs, rolesPerOrg);
+        rolesByOrganization = BouncerContextConverter.groupRolesByOrganization(member.getRoles());
+    }
+
+    @Benchmark
+    public Set<Organization> filterRolesPerOrganization() {
+        Set<Organization> organizations = new HashSet<>();
+        for (OrganizationEntity organization : member.getOrganizations()) {
+            organizations.add(converter.toOrganization(organization, member.getRoles()));
+        }
+        return organizations;
+    }
+
+    @Benchmark
+    public User toUser() {
+        return converter.toUser(member, member.getOrganizations());
+    }
+
+    @Benchmark
+    public User toUserPreGrouped() {
+        return converter.toUser(member, member.getOrganizations(), rolesByOrganization);
+    }
+}
@@ -0,0 +1,73 @@
+package dev.vality.orgmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.bouncer.decisions.Context;
+import dev.vality.orgmanager.config.properties.BouncerProperties;
+import dev.vality.orgmanager.converter.BouncerContextConverter;
+import dev.vality.orgmanager.entity.MemberEntity;
+import dev.vality.orgmanager.service.BouncerContextFactory;
+import dev.vality.orgmanager.service.CallerContext;
+import dev.vality.orgmanager.service.KeycloakService;
+import dev.vality.orgmanager.service.dto.BouncerContextDto;
+import dev.vality.orgmanager.service.model.UserInfo;
+import org.apache.thrift.TException;
+import org.keycloak.representations.AccessToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures assembling and serializing the full bouncer context for one judgement, the way a single
+ * request does it: a fresh {@link CallerContext} per invocation, so the user is converted every time.
+ * Run with {@code -prof gc} to see allocation per context.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BouncerContextFactoryBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int orgs;
+
+    private BouncerProperties bouncerProperties;
+    private KeycloakService keycloakService;
+    private BouncerContextConverter bouncerContextConverter;
+    private UserInfo userInfo;
+    private BouncerContextDto bouncerContext;
+
+    @Setup
+    public void setUp() {
+        bouncerProperties = new BouncerProperties();
+        bouncerProperties.setContextFragmentId("orgmgmt");
+        bouncerProperties.setDeploymentId("production");
+        bouncerProperties.setAuthMethod("SessionToken");
+        bouncerProperties.setRealm("external");
+        AccessToken accessToken = new AccessToken();
+        accessToken.id(UUID.randomUUID().toString());
+        accessToken.exp(Instant.now().plusSeconds(300).getEpochSecond());
+        keycloakService = new KeycloakService(new ObjectMapper()) {
+            @Override
+            public AccessToken getAccessToken() {
+                return accessToken;
+            }
+        };
+        bouncerContextConverter = new BouncerContextConverter();
+        MemberEntity member = BenchmarkFixtures.memberEntity(orgs, 3);
+        userInfo = new UserInfo(member, member.getOrganizations());
+        bouncerContext = BouncerContextDto.builder()
+                .operationName("getOrg")
+                .organizationId(member.getOrganizations().iterator().next().getId())
+                .build();
+    }
+
+    @Benchmark
+    public Context buildContext() throws TException {
+        CallerContext callerContext = new CallerContext(keycloakService, id -> userInfo, bouncerContextConverter);
+        return new BouncerContextFactory(bouncerProperties, callerContext).buildContext(bouncerContext);
+    }
+}
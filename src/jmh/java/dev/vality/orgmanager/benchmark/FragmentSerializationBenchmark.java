@@ -0,0 +1,45 @@
+package dev.vality.orgmanager.benchmark;
+
+import dev.vality.bouncer.context.v1.ContextFragment;
+import dev.vality.orgmanager.util.ThriftSerializerUtils;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a user context fragment with a new {@link TSerializer} per call against a presized
+ * buffer per call. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FragmentSerializationBenchmark {
+
+    @Param({"1", "50", "200"})
+    private int orgs;
+
+    @Param({"3"})
+    private int rolesPerOrg;
+
+    private ContextFragment fragment;
+
+    @Setup
+    public void setUp() {
+        fragment = BenchmarkFixtures.userFragment(orgs, rolesPerOrg);
+    }
+
+    @Benchmark
+    public byte[] newSerializerPerCall() throws TException {
+        return new TSerializer().serialize(fragment);
+    }
+
+    @Benchmark
+    public byte[] presizedBufferPerCall() throws TException {
+        return ThriftSerializerUtils.serialize(fragment);
+    }
+}
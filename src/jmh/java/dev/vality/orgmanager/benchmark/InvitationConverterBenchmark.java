@@ -0,0 +1,46 @@
+package dev.vality.orgmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.orgmanager.config.properties.InviteTokenProperties;
+import dev.vality.orgmanager.converter.InvitationConverter;
+import dev.vality.orgmanager.converter.MemberRoleConverter;
+import dev.vality.orgmanager.entity.InvitationEntity;
+import dev.vality.orgmanager.util.JsonMapper;
+import dev.vality.swag.organizations.model.Invitation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting a stored invitation, including its JSON metadata, to the API model.
+ * Run with {@code -prof gc} to see allocation per conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvitationConverterBenchmark {
+
+    @Param({"1", "10"})
+    private int roles;
+
+    @Param({"0", "20"})
+    private int metadataEntries;
+
+    private InvitationConverter converter;
+    private InvitationEntity invitation;
+
+    @Setup
+    public void setUp() {
+        converter = new InvitationConverter(
+                new JsonMapper(new ObjectMapper()), new MemberRoleConverter(), new InviteTokenProperties());
+        invitation = BenchmarkFixtures.invitationEntity(roles, metadataEntries);
+    }
+
+    @Benchmark
+    public Invitation toDomain() {
+        return converter.toDomain(invitation);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.vality.orgmanager.benchmark;
+
+import dev.vality.orgmanager.converter.MemberConverter;
+import dev.vality.orgmanager.converter.MemberRoleConverter;
+import dev.vality.orgmanager.service.dto.MemberWithRoleDto;
+import dev.vality.swag.organizations.model.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grouping the organization members query rows into {@link Member} models.
+ * Run with {@code -prof gc} to see allocation per listing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberConverterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int members;
+
+    @Param({"2"})
+    private int rolesPerMember;
+
+    private MemberConverter converter;
+    private List<MemberWithRoleDto> rows;
+
+    @Setup
+    public void setUp() {
+        converter = new MemberConverter(new MemberRoleConverter());
+        rows = BenchmarkFixtures.memberRows(members, rolesPerMember);
+    }
+
+    @Benchmark
+    public List<Member> toDomain() {
+        return converter.toDomain(rows);
+    }
+}
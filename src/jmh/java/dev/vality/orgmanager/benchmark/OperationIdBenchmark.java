@@ -0,0 +1,52 @@
+package dev.vality.orgmanager.benchmark;
+
+import dev.vality.orgmanager.controller.OrgsController;
+import dev.vality.orgmanager.controller.operation.OrgOperation;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving the bouncer operation id by walking the stack with a lookup in the
+ * method-to-operation table built at startup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationIdBenchmark {
+
+    private Method handlerMethod;
+    private Map<Method, String> operations;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handlerMethod = OrgsController.class.getMethod("getOrg", String.class, String.class);
+        operations = Map.of(handlerMethod, handlerMethod.getAnnotation(OrgOperation.class).value());
+    }
+
+    @Benchmark
+    public String stackWalker() {
+        return handler();
+    }
+
+    @Benchmark
+    public String operationTable() {
+        return operations.get(handlerMethod);
+    }
+
+    private String handler() {
+        return checkRights();
+    }
+
+    private String checkRights() {
+        return StackWalker.getInstance()
+                .walk(frames -> frames.skip(1).findFirst())
+                .orElseThrow()
+                .getMethodName();
+    }
+}
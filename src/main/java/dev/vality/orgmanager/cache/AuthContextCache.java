@@ -0,0 +1,87 @@
+package dev.vality.orgmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vality.orgmanager.config.properties.AuthContextCacheProperties;
+import dev.vality.orgmanager.datasource.PrimaryReads;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized user context fragments. Invalidation on membership changes is in-process, other instances keep
+ * serving the old roles until the ttl expires, so the cache is off by default and its ttl must stay short.
+ */
+@Slf4j
+@Component
+public class AuthContextCache {
+
+    public static final String CACHE_NAME = "auth-context";
+
+    private final AuthContextCacheProperties properties;
+    private final AuthContextSingleFlight singleFlight;
+    private final Cache<AuthContextKey, AuthContextEntry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthContextCache(AuthContextCacheProperties properties,
+                            AuthContextSingleFlight singleFlight,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.singleFlight = singleFlight;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(properties.getEnabled());
+    }
+
+    public AuthContextEntry get(AuthContextKey key, EntryLoader loader) throws TException {
+        AuthContextEntry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long observedGeneration = generation.get();
+        // a replica behind the last invalidation would refill the cache with the roles it just dropped
+        AuthContextEntry entry = PrimaryReads.call(loader::load);
+        // a membership change during the load makes this fragment potentially stale
+        if (observedGeneration == generation.get()) {
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        log.debug("Invalidate auth contexts for {}", event);
+        // detached first, otherwise a caller seeing the new generation could still join a pre-change load
+        singleFlight.detach(event);
+        generation.incrementAndGet();
+        if (event.getMemberId() != null) {
+            cache.asMap().keySet().removeIf(key -> event.getMemberId().equals(key.getUserId()));
+        } else {
+            cache.asMap().values().removeIf(entry -> entry.getOrganizationIds().contains(event.getOrganizationId()));
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @FunctionalInterface
+    public interface EntryLoader {
+
+        AuthContextEntry load() throws TException;
+
+    }
+}
@@ -0,0 +1,13 @@
+package dev.vality.orgmanager.cache;
+
+import lombok.Value;
+
+import java.util.Set;
+
+@Value
+public class AuthContextEntry {
+
+    byte[] content;
+    Set<String> organizationIds;
+
+}
@@ -0,0 +1,14 @@
+package dev.vality.orgmanager.cache;
+
+import lombok.Value;
+
+/**
+ * The email is part of the key because it is taken from the request metadata for users that are not members yet.
+ */
+@Value
+public class AuthContextKey {
+
+    String userId;
+    String email;
+
+}
@@ -0,0 +1,90 @@
+package dev.vality.orgmanager.cache;
+
+import dev.vality.orgmanager.config.properties.AuthContextSingleFlightProperties;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lets concurrent lookups of the same auth context share one in-flight load. Nothing is kept after the load
+ * completes, and a membership change detaches the affected loads so that later callers start a fresh one.
+ */
+@Slf4j
+@Component
+public class AuthContextSingleFlight {
+
+    public static final String SINGLE_FLIGHT_METRIC = "org_manager.auth_context.single_flight";
+    public static final String IN_FLIGHT_METRIC = "org_manager.auth_context.in_flight";
+
+    private final AuthContextSingleFlightProperties properties;
+    private final Map<AuthContextKey, CompletableFuture<AuthContextEntry>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public AuthContextSingleFlight(AuthContextSingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.leaders = meterRegistry.counter(SINGLE_FLIGHT_METRIC, "role", "leader");
+        this.coalesced = meterRegistry.counter(SINGLE_FLIGHT_METRIC, "role", "coalesced");
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, Map::size).register(meterRegistry);
+    }
+
+    public AuthContextEntry execute(AuthContextKey key, AuthContextCache.EntryLoader loader) throws TException {
+        if (!Boolean.TRUE.equals(properties.getEnabled())) {
+            return loader.load();
+        }
+        CompletableFuture<AuthContextEntry> flight = new CompletableFuture<>();
+        CompletableFuture<AuthContextEntry> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            log.debug("Join in-flight auth context load for {}", key);
+            return await(existing);
+        }
+        leaders.increment();
+        try {
+            AuthContextEntry entry = loader.load();
+            flight.complete(entry);
+            return entry;
+        } catch (TException | RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Called by {@link AuthContextCache} before it moves to a new generation, a caller that observes the new
+     * generation must not join a load started before the change.
+     */
+    public void detach(MembershipChangedEvent event) {
+        if (event.getMemberId() != null) {
+            inFlight.keySet().removeIf(key -> event.getMemberId().equals(key.getUserId()));
+        } else {
+            // organizations of an entry are only known once it is loaded
+            inFlight.clear();
+        }
+    }
+
+    private AuthContextEntry await(CompletableFuture<AuthContextEntry> flight) throws TException {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
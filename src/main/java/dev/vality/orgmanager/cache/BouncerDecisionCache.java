@@ -0,0 +1,69 @@
+package dev.vality.orgmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vality.orgmanager.config.properties.DecisionCacheProperties;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches allowed bouncer decisions only, so a freshly granted role is never denied from the cache. Invalidation
+ * on membership changes is in-process, other instances keep their entries until the ttl expires, so the cache is
+ * off by default and its ttl bounds how long a revoked role can still be allowed elsewhere.
+ */
+@Slf4j
+@Component
+public class BouncerDecisionCache {
+
+    public static final String CACHE_NAME = "bouncer-decisions";
+
+    private final DecisionCacheProperties properties;
+    private final Cache<BouncerDecisionKey, Boolean> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public BouncerDecisionCache(DecisionCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(properties.getEnabled());
+    }
+
+    public boolean get(BouncerDecisionKey key, BooleanSupplier judge) {
+        Boolean cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long observedGeneration = generation.get();
+        boolean decision = judge.getAsBoolean();
+        // a membership change during the bouncer call makes this decision potentially stale
+        if (decision && observedGeneration == generation.get()) {
+            cache.put(key, decision);
+        }
+        return decision;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        log.debug("Invalidate bouncer decisions for {}", event);
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.isAffectedBy(event));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
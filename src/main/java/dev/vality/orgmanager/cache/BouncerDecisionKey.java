@@ -0,0 +1,53 @@
+package dev.vality.orgmanager.cache;
+
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import dev.vality.orgmanager.service.dto.BouncerContextDto;
+import dev.vality.orgmanager.service.dto.InvitationDto;
+import dev.vality.orgmanager.service.dto.RoleDto;
+import lombok.Builder;
+import lombok.Value;
+import org.keycloak.representations.AccessToken;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Value
+@Builder
+public class BouncerDecisionKey {
+
+    String ruleSetId;
+    String operation;
+    String subject;
+    String tokenId;
+    String organizationId;
+    String memberId;
+    String roleId;
+    String scopeResourceId;
+    String invitationId;
+    String invitationEmail;
+
+    public static BouncerDecisionKey of(String ruleSetId, AccessToken token, BouncerContextDto bouncerContext) {
+        Optional<RoleDto> role = Optional.ofNullable(bouncerContext.getRole());
+        Optional<InvitationDto> invitation = Optional.ofNullable(bouncerContext.getInvitation());
+        return BouncerDecisionKey.builder()
+                .ruleSetId(ruleSetId)
+                .operation(bouncerContext.getOperationName())
+                .subject(token.getSubject())
+                .tokenId(token.getId())
+                .organizationId(bouncerContext.getOrganizationId())
+                .memberId(bouncerContext.getMemberId())
+                .roleId(role.map(RoleDto::getRoleId).orElse(null))
+                .scopeResourceId(role.map(RoleDto::getScopeResourceId).orElse(null))
+                .invitationId(invitation.map(InvitationDto::getInvitationId).orElse(null))
+                .invitationEmail(invitation.map(InvitationDto::getEmail).orElse(null))
+                .build();
+    }
+
+    public boolean isAffectedBy(MembershipChangedEvent event) {
+        if (Objects.nonNull(event.getOrganizationId()) && event.getOrganizationId().equals(organizationId)) {
+            return true;
+        }
+        return Objects.nonNull(event.getMemberId())
+                && (event.getMemberId().equals(subject) || event.getMemberId().equals(memberId));
+    }
+}
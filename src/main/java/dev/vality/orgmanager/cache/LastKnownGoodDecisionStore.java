@@ -0,0 +1,69 @@
+package dev.vality.orgmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vality.orgmanager.config.properties.BouncerResilienceProperties;
+import dev.vality.orgmanager.config.properties.BouncerResilienceProperties.DegradedMode;
+import dev.vality.orgmanager.config.properties.DecisionCacheProperties;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import dev.vality.orgmanager.exception.BouncerUnavailableException;
+import dev.vality.orgmanager.metrics.Outcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the latest bouncer decisions for a short time so that they can be served while bouncer is unavailable,
+ * when the degraded mode is {@link DegradedMode#DENY} or nothing is known every such request is denied.
+ * Decisions expire with the decision cache ttl, a revoked role is not honoured longer than a cached decision.
+ */
+@Slf4j
+@Component
+public class LastKnownGoodDecisionStore {
+
+    public static final String DEGRADED_METRIC = "org_manager.bouncer.degraded";
+
+    private final BouncerResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<BouncerDecisionKey, Boolean> cache;
+
+    public LastKnownGoodDecisionStore(BouncerResilienceProperties properties,
+                                      DecisionCacheProperties decisionCacheProperties,
+                                      MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownGoodMaxSize())
+                .expireAfterWrite(decisionCacheProperties.getTtl())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.getDegradedMode() == DegradedMode.LAST_KNOWN_GOOD;
+    }
+
+    public void put(@Nullable BouncerDecisionKey key, boolean decision) {
+        if (isEnabled() && key != null) {
+            cache.put(key, decision);
+        }
+    }
+
+    public boolean degradedDecision(@Nullable BouncerDecisionKey key, BouncerUnavailableException e) {
+        Boolean known = isEnabled() && key != null ? cache.getIfPresent(key) : null;
+        boolean decision = Boolean.TRUE.equals(known);
+        log.warn("Bouncer is unavailable ({}), {} decision: {}", e.getReason().getValue(),
+                known != null ? "last known" : "default", decision);
+        meterRegistry.counter(DEGRADED_METRIC,
+                        "reason", e.getReason().getValue(),
+                        "outcome", (decision ? Outcome.ALLOWED : Outcome.DENIED).getValue())
+                .increment();
+        return decision;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        cache.asMap().keySet().removeIf(key -> key.isAffectedBy(event));
+    }
+}
@@ -1,8 +1,12 @@
 package dev.vality.orgmanager.config;
 
 import dev.vality.bouncer.decisions.ArbiterSrv;
+import dev.vality.orgmanager.config.properties.HttpClientPoolProperties;
 import dev.vality.woody.thrift.impl.http.THSpawnClientBuilder;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
@@ -12,10 +16,27 @@ import java.io.IOException;
 @Configuration
 public class BouncerConfig {
 
+    @Bean
+    @ConfigurationProperties(prefix = "bouncer.http-client")
+    public HttpClientPoolProperties bouncerHttpClientProperties() {
+        return new HttpClientPoolProperties();
+    }
+
+    @Bean
+    public CloseableHttpClient bouncerHttpClient(PooledHttpClientFactory pooledHttpClientFactory,
+                                                 @Qualifier("bouncerHttpClientProperties")
+                                                 HttpClientPoolProperties properties,
+                                                 @Value("${bouncer.networkTimeout}") int networkTimeout) {
+        return pooledHttpClientFactory.create("bouncer", properties, networkTimeout);
+    }
+
     @Bean
     public ArbiterSrv.Iface bouncerClient(@Value("${bouncer.url}") Resource resource,
-                                          @Value("${bouncer.networkTimeout}") int networkTimeout) throws IOException {
+                                          @Value("${bouncer.networkTimeout}") int networkTimeout,
+                                          @Qualifier("bouncerHttpClient") CloseableHttpClient httpClient)
+            throws IOException {
         return new THSpawnClientBuilder()
+                .withHttpClient(httpClient)
                 .withNetworkTimeout(networkTimeout)
                 .withAddress(resource.getURI())
                 .build(ArbiterSrv.Iface.class);
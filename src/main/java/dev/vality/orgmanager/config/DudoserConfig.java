@@ -1,8 +1,12 @@
 package dev.vality.orgmanager.config;
 
 import dev.vality.damsel.message_sender.MessageSenderSrv;
+import dev.vality.orgmanager.config.properties.HttpClientPoolProperties;
 import dev.vality.woody.thrift.impl.http.THSpawnClientBuilder;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
@@ -12,11 +16,27 @@ import java.io.IOException;
 @Configuration
 public class DudoserConfig {
 
+    @Bean
+    @ConfigurationProperties(prefix = "dudoser.http-client")
+    public HttpClientPoolProperties dudoserHttpClientProperties() {
+        return new HttpClientPoolProperties();
+    }
+
+    @Bean
+    public CloseableHttpClient dudoserHttpClient(PooledHttpClientFactory pooledHttpClientFactory,
+                                                 @Qualifier("dudoserHttpClientProperties")
+                                                 HttpClientPoolProperties properties,
+                                                 @Value("${dudoser.networkTimeout}") int networkTimeout) {
+        return pooledHttpClientFactory.create("dudoser", properties, networkTimeout);
+    }
+
     @Bean
     public MessageSenderSrv.Iface dudoserSrv(@Value("${dudoser.url}") Resource resource,
-                                             @Value("${dudoser.networkTimeout}") int networkTimeout)
+                                             @Value("${dudoser.networkTimeout}") int networkTimeout,
+                                             @Qualifier("dudoserHttpClient") CloseableHttpClient httpClient)
             throws IOException {
         return new THSpawnClientBuilder()
+                .withHttpClient(httpClient)
                 .withNetworkTimeout(networkTimeout)
                 .withAddress(resource.getURI()).build(MessageSenderSrv.Iface.class);
     }
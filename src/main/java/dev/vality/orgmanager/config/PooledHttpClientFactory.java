@@ -0,0 +1,65 @@
+package dev.vality.orgmanager.config;
+
+import dev.vality.orgmanager.config.properties.HttpClientPoolProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Builds keep-alive http clients with a bounded connection pool for the woody thrift clients,
+ * the pool usage is published as httpcomponents.httpclient.pool.* metrics tagged with the client name.
+ */
+@Component
+@RequiredArgsConstructor
+public class PooledHttpClientFactory {
+
+    private final MeterRegistry meterRegistry;
+
+    public CloseableHttpClient create(String name, HttpClientPoolProperties properties, int networkTimeout) {
+        Timeout readTimeout = Timeout.ofMilliseconds(networkTimeout);
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoKeepAlive(properties.isTcpKeepAlive())
+                        .setSoTimeout(readTimeout)
+                        .build())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(properties.getConnectTimeout()))
+                        .setSocketTimeout(readTimeout)
+                        .setTimeToLive(timeValue(properties.getTimeToLive()))
+                        .setValidateAfterInactivity(timeValue(properties.getValidateAfterInactivity()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(readTimeout)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(properties.getIdleTimeout()))
+                .build();
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,71 @@
+package dev.vality.orgmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.vality.orgmanager.config.properties.ReplicaDataSourceProperties;
+import dev.vality.orgmanager.datasource.ReplicaLagMonitor;
+import dev.vality.orgmanager.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Sends read-only transactions to the replica. Connections are fetched lazily, so the read-only flag
+ * of the transaction is already known when the target pool is chosen.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replicaProperties,
+                                              DataSourceProperties dataSourceProperties) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setDriverClassName(dataSourceProperties.getDriverClassName());
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername());
+        replica.setPassword(replicaProperties.getPassword());
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                replicaDataSource, primaryDataSource, replicaLagMonitor, meterRegistry));
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+}
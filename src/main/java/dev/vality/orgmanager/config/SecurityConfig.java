@@ -1,5 +1,7 @@
 package dev.vality.orgmanager.config;
 
+import dev.vality.orgmanager.security.AccessTokenAuthenticationConverter;
+import dev.vality.orgmanager.service.KeycloakService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +22,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   KeycloakService keycloakService) throws Exception {
         http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
@@ -38,9 +41,10 @@ public class SecurityConfig {
                                 "/prometheus",
                                 "/actuator/prometheus"
                         ).permitAll()
-                        .requestMatchers("/auth-context").permitAll()
+                        .requestMatchers("/auth-context", "/auth-context/membership").permitAll()
                         .anyRequest().authenticated())
-                .oauth2ResourceServer(config -> config.jwt(Customizer.withDefaults()));
+                .oauth2ResourceServer(config -> config.jwt(jwt -> jwt
+                        .jwtAuthenticationConverter(new AccessTokenAuthenticationConverter(keycloakService))));
         return http.build();
     }
 
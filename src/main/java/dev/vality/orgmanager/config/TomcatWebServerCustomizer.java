@@ -1,6 +1,7 @@
 package dev.vality.orgmanager.config;
 
 import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
@@ -14,10 +15,17 @@ public class TomcatWebServerCustomizer implements WebServerFactoryCustomizer<Tom
     @Value("${server.rest.port}")
     private int restPort;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void customize(TomcatServletWebServerFactory factory) {
         Connector connector = new Connector();
         connector.setPort(restPort);
+        // spring boot switches only the main connector to virtual threads
+        if (virtualThreads) {
+            connector.getProtocolHandler().setExecutor(new VirtualThreadExecutor("tomcat-rest-"));
+        }
 
         factory.addAdditionalTomcatConnectors(connector);
     }
@@ -0,0 +1,22 @@
+package dev.vality.orgmanager.config;
+
+import dev.vality.orgmanager.controller.operation.OperationMetricsInterceptor;
+import dev.vality.orgmanager.controller.operation.OrgOperationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final OrgOperationInterceptor orgOperationInterceptor;
+    private final OperationMetricsInterceptor operationMetricsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(operationMetricsInterceptor);
+        registry.addInterceptor(orgOperationInterceptor);
+    }
+}
@@ -0,0 +1,14 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "auth-context.single-flight")
+@Data
+public class AuthContextSingleFlightProperties {
+
+    private Boolean enabled;
+
+}
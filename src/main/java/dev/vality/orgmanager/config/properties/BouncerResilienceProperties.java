@@ -0,0 +1,30 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bouncer.resilience")
+@Data
+public class BouncerResilienceProperties {
+
+    private Float failureRateThreshold;
+    private Integer slidingWindowSize;
+    private Integer minimumNumberOfCalls;
+    private Duration waitDurationInOpenState;
+    private Integer permittedCallsInHalfOpenState;
+    private Integer maxConcurrentCalls;
+    private Duration readTimeout;
+    private Duration writeTimeout;
+    private DegradedMode degradedMode;
+    private Long lastKnownGoodMaxSize;
+
+    public enum DegradedMode {
+        DENY,
+        LAST_KNOWN_GOOD
+    }
+
+}
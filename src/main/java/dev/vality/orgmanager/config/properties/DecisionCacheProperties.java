@@ -0,0 +1,18 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bouncer.decision-cache")
+@Data
+public class DecisionCacheProperties {
+
+    private Boolean enabled;
+    private Duration ttl;
+    private Long maxSize;
+
+}
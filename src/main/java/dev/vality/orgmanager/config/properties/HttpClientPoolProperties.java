@@ -0,0 +1,22 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Connection pool of the http transport of a thrift client, bound per client under {@code <client>.http-client}.
+ */
+@Data
+public class HttpClientPoolProperties {
+
+    private Integer maxTotal;
+    private Integer maxPerRoute;
+    private Duration connectTimeout;
+    private Duration connectionRequestTimeout;
+    private Duration idleTimeout;
+    private Duration timeToLive;
+    private Duration validateAfterInactivity;
+    private boolean tcpKeepAlive;
+
+}
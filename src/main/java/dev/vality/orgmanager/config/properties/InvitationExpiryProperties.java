@@ -0,0 +1,12 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "scheduler.invitation")
+@Data
+public class InvitationExpiryProperties {
+    private Integer batchSize;
+}
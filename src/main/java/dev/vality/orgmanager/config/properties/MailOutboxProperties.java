@@ -0,0 +1,20 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "scheduler.mail-outbox")
+@Data
+public class MailOutboxProperties {
+
+    private Integer batchSize;
+    private Integer concurrency;
+    private Integer maxAttempts;
+    private Duration initialBackoff;
+    private Duration maxBackoff;
+
+}
@@ -0,0 +1,17 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "metrics.org-size")
+@Data
+public class OrgSizeMetricsProperties {
+
+    private Duration ttl;
+    private Long maxSize;
+
+}
@@ -0,0 +1,21 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@Data
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private Integer maximumPoolSize;
+    private Duration maxLag;
+
+}
@@ -0,0 +1,16 @@
+package dev.vality.orgmanager.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "virtual-threads.pinning")
+@Data
+public class VirtualThreadProperties {
+
+    private Duration threshold;
+
+}
@@ -0,0 +1,58 @@
+package dev.vality.orgmanager.controller;
+
+import dev.vality.orgmanager.controller.operation.OrgOperation;
+import dev.vality.orgmanager.service.InvitationService;
+import dev.vality.orgmanager.service.ResourceAccessService;
+import dev.vality.orgmanager.service.dto.InvitationBatchResult;
+import dev.vality.orgmanager.service.dto.ResourceDto;
+import dev.vality.swag.organizations.model.InvitationRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@Validated
+@RequiredArgsConstructor
+public class InvitationBatchController {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final InvitationService invitationService;
+    private final ResourceAccessService resourceAccessService;
+
+    /**
+     * Not part of the generated OrgsApi: rights are checked once for the organization
+     * with the createInvitation operation instead of once per invitee.
+     */
+    @OrgOperation("createInvitation")
+    @PostMapping(
+            value = "/orgs/{orgId}/invitations/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<InvitationBatchResult>> createInvitations(
+            @RequestHeader("X-Request-ID") @Size(min = 1, max = 32) String requestId,
+            @PathVariable("orgId") @Size(min = 1, max = 40) String orgId,
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid InvitationRequest> invitations) {
+        log.info("Create invitations: requestId={}, orgId={}, invitations={}", requestId, orgId, invitations.size());
+        ResourceDto resource = ResourceDto.builder()
+                .orgId(orgId)
+                .build();
+        resourceAccessService.checkRights(resource);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(invitationService.createBatch(orgId, invitations));
+    }
+}
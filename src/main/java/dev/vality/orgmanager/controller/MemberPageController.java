@@ -0,0 +1,52 @@
+package dev.vality.orgmanager.controller;
+
+import dev.vality.orgmanager.controller.operation.OrgOperation;
+import dev.vality.orgmanager.service.OrganizationService;
+import dev.vality.orgmanager.service.ResourceAccessService;
+import dev.vality.orgmanager.service.dto.MemberPage;
+import dev.vality.orgmanager.service.dto.ResourceDto;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Validated
+@RequiredArgsConstructor
+public class MemberPageController {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final OrganizationService organizationService;
+    private final ResourceAccessService resourceAccessService;
+
+    /**
+     * Not part of the generated OrgsApi: keyset-paginated variant of listOrgMembers, the next page is requested
+     * with the continuationToken of the previous one until it is absent.
+     */
+    @OrgOperation("listOrgMembers")
+    @GetMapping(value = "/orgs/{orgId}/members-page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MemberPage> listOrgMembersPage(
+            @RequestHeader("X-Request-ID") @Size(min = 1, max = 32) String requestId,
+            @PathVariable("orgId") @Size(min = 1, max = 40) String orgId,
+            @RequestParam(value = "limit", required = false) @Min(1) @Max(MAX_LIMIT) Integer limit,
+            @RequestParam(value = "continuationToken", required = false) String continuationToken) {
+        log.info("List organization members page: requestId={}, orgId={}, limit={}, continuationToken={}",
+                requestId, orgId, limit, continuationToken);
+        ResourceDto resource = ResourceDto.builder()
+                .orgId(orgId)
+                .build();
+        resourceAccessService.checkRights(resource);
+        return ResponseEntity.ok(organizationService.listMembers(orgId, limit, continuationToken));
+    }
+}
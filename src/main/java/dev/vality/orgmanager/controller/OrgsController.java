@@ -1,5 +1,6 @@
 package dev.vality.orgmanager.controller;
 
+import dev.vality.orgmanager.controller.operation.OrgOperation;
 import dev.vality.orgmanager.service.*;
 import dev.vality.orgmanager.service.dto.ResourceDto;
 import dev.vality.swag.organizations.api.OrgsApi;
@@ -23,10 +24,11 @@ public class OrgsController implements OrgsApi {
     private final OrganizationService organizationService;
     private final InvitationService invitationService;
     private final OrganizationRoleService organizationRoleService;
-    private final KeycloakService keycloakService;
+    private final CallerContext callerContext;
     private final ResourceAccessService resourceAccessService;
 
     @Override
+    @OrgOperation("createOrg")
     public ResponseEntity<Organization> createOrg(
             String requestId,
             Organization organization,
@@ -34,7 +36,7 @@ public class OrgsController implements OrgsApi {
         log.info("Create organization: requestId={}, idempotencyKey={}, organization={}", requestId, idempotencyKey,
                 organization);
         resourceAccessService.checkRights();
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         Organization createdOrganization = organizationService.create(accessToken, organization, idempotencyKey);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -42,6 +44,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("getOrg")
     public ResponseEntity<Organization> getOrg(
             String requestId,
             String orgId) {
@@ -58,6 +61,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("getOrgMember")
     public ResponseEntity<Member> getOrgMember(
             String requestId,
             String orgId,
@@ -72,6 +76,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("listOrgMembers")
     public ResponseEntity<MemberOrgListResult> listOrgMembers(String requestId, String orgId) {
         log.info("List organization members: requestId={}, orgId={}", requestId, orgId);
         ResourceDto resource = ResourceDto.builder()
@@ -82,6 +87,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("createInvitation")
     public ResponseEntity<Invitation> createInvitation(String requestId,
                                                        @Size(min = 1, max = 40) String orgId,
                                                        @Valid InvitationRequest invitationRequest,
@@ -99,6 +105,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("getInvitation")
     public ResponseEntity<Invitation> getInvitation(
             String requestId,
             String orgId,
@@ -113,6 +120,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("listInvitations")
     public ResponseEntity<InvitationListResult> listInvitations(String requestId,
                                                                 String orgId,
                                                                 InvitationStatusName status) {
@@ -125,6 +133,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("revokeInvitation")
     public ResponseEntity<Void> revokeInvitation(String requestId,
                                                  String orgId,
                                                  String invitationId,
@@ -143,6 +152,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("getOrgRole")
     public ResponseEntity<Role> getOrgRole(
             String requestId,
             String orgId,
@@ -157,6 +167,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("listOrgRoles")
     public ResponseEntity<RoleAvailableListResult> listOrgRoles(String requestId, String orgId) {
         log.info("List organization roles: requestId={}, orgId={}", requestId, orgId);
         ResourceDto resource = ResourceDto.builder()
@@ -167,6 +178,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("patchOrg")
     public ResponseEntity<Organization> patchOrg(String requestId, String orgId, PatchOrgRequest request) {
         ResourceDto resource = ResourceDto.builder()
                 .orgId(orgId)
@@ -177,6 +189,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("assignMemberRole")
     public ResponseEntity<MemberRole> assignMemberRole(
             String requestId,
             String orgId,
@@ -196,6 +209,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("expelOrgMember")
     public ResponseEntity<Void> expelOrgMember(
             String requestId,
             String orgId,
@@ -211,6 +225,7 @@ public class OrgsController implements OrgsApi {
     }
 
     @Override
+    @OrgOperation("removeMemberRole")
     public ResponseEntity<Void> removeMemberRole(
             String requestId,
             String orgId,
@@ -1,6 +1,7 @@
 package dev.vality.orgmanager.controller;
 
-import dev.vality.orgmanager.service.KeycloakService;
+import dev.vality.orgmanager.controller.operation.OrgOperation;
+import dev.vality.orgmanager.service.CallerContext;
 import dev.vality.orgmanager.service.OrganizationService;
 import dev.vality.orgmanager.service.ResourceAccessService;
 import dev.vality.orgmanager.service.dto.ResourceDto;
@@ -20,10 +21,11 @@ import jakarta.validation.Valid;
 public class UserController implements UserApi {
 
     private final OrganizationService organizationService;
-    private final KeycloakService keycloakService;
+    private final CallerContext callerContext;
     private final ResourceAccessService resourceAccessService;
 
     @Override
+    @OrgOperation("cancelOrgMembership")
     public ResponseEntity<Void> cancelOrgMembership(
             String requestId,
             String orgId) {
@@ -32,11 +34,12 @@ public class UserController implements UserApi {
                 .orgId(orgId)
                 .build();
         resourceAccessService.checkRights(resource);
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         return organizationService.cancelOrgMembership(orgId, accessToken.getSubject(), accessToken.getEmail());
     }
 
     @Override
+    @OrgOperation("inquireOrgMembership")
     public ResponseEntity<OrganizationMembership> inquireOrgMembership(
             String requestId,
             String orgId) {
@@ -45,11 +48,12 @@ public class UserController implements UserApi {
                 .orgId(orgId)
                 .build();
         resourceAccessService.checkRights(resource);
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         return organizationService.getMembership(orgId, accessToken.getSubject(), accessToken.getEmail());
     }
 
     @Override
+    @OrgOperation("joinOrg")
     public ResponseEntity<OrganizationMembership> joinOrg(
             String requestId,
             OrganizationJoinRequest body) {
@@ -58,35 +62,38 @@ public class UserController implements UserApi {
                 .invitationToken(body.getInvitation())
                 .build();
         resourceAccessService.checkRights(resource);
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         return ResponseEntity.ok(organizationService
                 .joinOrganization(body.getInvitation(), accessToken.getSubject(), accessToken.getEmail()));
     }
 
     @Override
+    @OrgOperation("listOrgMembership")
     public ResponseEntity<OrganizationSearchResult> listOrgMembership(String requestId,
                                                                       Integer limit,
                                                                       String continuationToken) {
         log.info("List org membership: requestId={}, limit={}, continuationToken={}",
                 requestId, limit, continuationToken);
         resourceAccessService.checkRights();
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         OrganizationSearchResult organizationSearchResult =
                 organizationService.findAllOrganizations(accessToken.getSubject(), limit, continuationToken);
         return ResponseEntity.ok(organizationSearchResult);
     }
 
     @Override
+    @OrgOperation("getContext")
     public ResponseEntity<MemberContext> getContext(String requestId) {
         log.info("Get user context. requestId={}", requestId);
         resourceAccessService.checkRights();
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         MemberContext memberContext = organizationService.findMemberContext(accessToken.getSubject());
 
         return ResponseEntity.ok(memberContext);
     }
 
     @Override
+    @OrgOperation("switchContext")
     public ResponseEntity<Void> switchContext(String requestId,
                                               @Valid OrganizationSwitchRequest organizationSwitchRequest) {
         log.info("Switch user context. requestId={}, body={}", requestId, organizationSwitchRequest);
@@ -94,7 +101,7 @@ public class UserController implements UserApi {
                 .orgId(organizationSwitchRequest.getOrganizationId())
                 .build();
         resourceAccessService.checkRights(resource);
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
 
         organizationService.switchMemberContext(
                 accessToken.getSubject(),
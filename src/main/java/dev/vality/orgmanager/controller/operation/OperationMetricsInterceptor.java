@@ -0,0 +1,68 @@
+package dev.vality.orgmanager.controller.operation;
+
+import dev.vality.orgmanager.metrics.OrgManagerMetrics;
+import dev.vality.orgmanager.metrics.Outcome;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class OperationMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String SAMPLE_ATTRIBUTE = OperationMetricsInterceptor.class.getName() + ".sample";
+    private static final String ORG_ID_VARIABLE = "orgId";
+
+    private final OrgOperationRegistry orgOperationRegistry;
+    private final OrgManagerMetrics orgManagerMetrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(SAMPLE_ATTRIBUTE, orgManagerMetrics.start());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(SAMPLE_ATTRIBUTE) instanceof Timer.Sample sample)) {
+            return;
+        }
+        Optional<String> operationId = orgOperationRegistry.getOperationId(handlerMethod.getMethod());
+        if (operationId.isEmpty()) {
+            return;
+        }
+        orgManagerMetrics.stop(sample, OrgManagerMetrics.OPERATION_TIMER, outcome(response, ex),
+                orgManagerMetrics.operationTags(operationId.get(), getOrgId(request)));
+    }
+
+    private Outcome outcome(HttpServletResponse response, Exception ex) {
+        int status = response.getStatus();
+        if (ex != null || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            return Outcome.ERROR;
+        }
+        if (status == HttpStatus.FORBIDDEN.value() || status == HttpStatus.UNAUTHORIZED.value()) {
+            return Outcome.DENIED;
+        }
+        return Outcome.SUCCESS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String getOrgId(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables != null ? variables.get(ORG_ID_VARIABLE) : null;
+    }
+}
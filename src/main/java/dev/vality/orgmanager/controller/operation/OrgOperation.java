@@ -0,0 +1,15 @@
+package dev.vality.orgmanager.controller.operation;
+
+import java.lang.annotation.*;
+
+/**
+ * Bouncer operation id of an API handler. Every handler declared by a controller must have one.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OrgOperation {
+
+    String value();
+
+}
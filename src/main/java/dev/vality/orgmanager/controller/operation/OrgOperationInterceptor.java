@@ -0,0 +1,26 @@
+package dev.vality.orgmanager.controller.operation;
+
+import dev.vality.orgmanager.service.CallerContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class OrgOperationInterceptor implements HandlerInterceptor {
+
+    private final OrgOperationRegistry orgOperationRegistry;
+    private final CallerContext callerContext;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            orgOperationRegistry.getOperationId(handlerMethod.getMethod())
+                    .ifPresent(callerContext::setOperationId);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.vality.orgmanager.controller.operation;
+
+import dev.vality.orgmanager.OrgManagerApplication;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgOperationRegistry implements SmartInitializingSingleton {
+
+    private static final String BASE_PACKAGE = OrgManagerApplication.class.getPackageName();
+
+    private final ApplicationContext applicationContext;
+
+    private Map<Method, String> operations = Map.of();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Method, String> resolved = new HashMap<>();
+        applicationContext.getBeansWithAnnotation(RestController.class).values().stream()
+                .map(ClassUtils::getUserClass)
+                .filter(type -> type.getPackageName().startsWith(BASE_PACKAGE))
+                .forEach(type -> resolved.putAll(resolveOperations(type)));
+        operations = Map.copyOf(resolved);
+        log.info("Resolved {} org operations", operations.size());
+    }
+
+    public Optional<String> getOperationId(Method handlerMethod) {
+        return Optional.ofNullable(operations.get(handlerMethod));
+    }
+
+    static Map<Method, String> resolveOperations(Class<?> controllerType) {
+        Map<Method, RequestMapping> handlers = MethodIntrospector.selectMethods(
+                controllerType,
+                (MethodIntrospector.MetadataLookup<RequestMapping>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class));
+        Map<Method, String> result = new HashMap<>();
+        handlers.keySet().stream()
+                .filter(method -> method.getDeclaringClass() == controllerType)
+                .forEach(method -> {
+                    OrgOperation operation = method.getAnnotation(OrgOperation.class);
+                    if (operation == null) {
+                        throw new IllegalStateException(String.format("Handler %s#%s has no @OrgOperation",
+                                controllerType.getSimpleName(), method.getName()));
+                    }
+                    result.put(method, operation.value());
+                });
+        return result;
+    }
+}
@@ -8,42 +8,65 @@ import dev.vality.bouncer.context.v1.User;
 import dev.vality.orgmanager.entity.MemberEntity;
 import dev.vality.orgmanager.entity.MemberRoleEntity;
 import dev.vality.orgmanager.entity.OrganizationEntity;
+import jakarta.annotation.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 public class BouncerContextConverter {
 
     public User toUser(MemberEntity member, Set<OrganizationEntity> organizations) {
+        return toUser(member, organizations, null);
+    }
+
+    /**
+     * @param rolesByOrganization member roles grouped by {@link #groupRolesByOrganization}, grouped here when null
+     */
+    public User toUser(MemberEntity member,
+                       Set<OrganizationEntity> organizations,
+                       @Nullable Map<String, List<MemberRoleEntity>> rolesByOrganization) {
+        Map<String, List<MemberRoleEntity>> roles = rolesByOrganization != null
+                ? rolesByOrganization
+                : groupRolesByOrganization(member == null ? null : member.getRoles());
+        Set<Organization> orgs = HashSet.newHashSet(organizations.size());
+        for (OrganizationEntity organization : organizations) {
+            orgs.add(toOrganization(organization, roles));
+        }
         return new User()
                 .setId(member == null ? null : member.getId())
                 .setRealm(new Entity())
                 .setEmail(member == null ? null : member.getEmail())
-                .setOrgs(
-                        organizations.stream()
-                                .map(organizationEntity -> this.toOrganization(
-                                        organizationEntity,
-                                        member == null ? null : member.getRoles())
-                                )
-                                .collect(Collectors.toSet())
-                );
+                .setOrgs(orgs);
     }
 
     public Organization toOrganization(OrganizationEntity entity,
                                        Set<MemberRoleEntity> roles) {
-        return new Organization()
-                .setId(entity.getId())
-                .setOwner(new Entity().setId(entity.getOwner()))
-                .setParty(new Entity().setId(entity.getParty()))
-                .setRoles(CollectionUtils.isEmpty(roles) ? null :
-                        roles.stream()
-                                .filter(memberRoleEntity -> memberRoleEntity.getOrganizationId().equals(entity.getId()))
-                                .map(this::toOrgRole)
-                                .collect(Collectors.toSet()));
+        return toOrganization(entity, groupRolesByOrganization(roles));
+    }
+
+    /**
+     * An empty map means the member has no roles at all, so organizations get no role set; an organization
+     * missing from a non-empty map gets an empty one.
+     */
+    public static Map<String, List<MemberRoleEntity>> groupRolesByOrganization(
+            @Nullable Collection<MemberRoleEntity> roles) {
+        if (CollectionUtils.isEmpty(roles)) {
+            return Map.of();
+        }
+        Map<String, List<MemberRoleEntity>> rolesByOrganization = new HashMap<>();
+        for (MemberRoleEntity role : roles) {
+            rolesByOrganization.computeIfAbsent(role.getOrganizationId(), id -> new ArrayList<>(2)).add(role);
+        }
+        return rolesByOrganization;
     }
 
     public OrgRole toOrgRole(MemberRoleEntity entity) {
@@ -57,4 +80,22 @@ public class BouncerContextConverter {
                         : null);
 
     }
+
+    private Organization toOrganization(OrganizationEntity entity,
+                                        Map<String, List<MemberRoleEntity>> rolesByOrganization) {
+        return new Organization()
+                .setId(entity.getId())
+                .setOwner(new Entity().setId(entity.getOwner()))
+                .setParty(new Entity().setId(entity.getParty()))
+                .setRoles(rolesByOrganization.isEmpty() ? null :
+                        toOrgRoles(rolesByOrganization.getOrDefault(entity.getId(), List.of())));
+    }
+
+    private Set<OrgRole> toOrgRoles(List<MemberRoleEntity> roles) {
+        Set<OrgRole> orgRoles = HashSet.newHashSet(roles.size());
+        for (MemberRoleEntity role : roles) {
+            orgRoles.add(toOrgRole(role));
+        }
+        return orgRoles;
+    }
 }
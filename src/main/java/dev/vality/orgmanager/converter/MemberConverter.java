@@ -9,6 +9,7 @@ import dev.vality.swag.organizations.model.MemberRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,7 +43,9 @@ public class MemberConverter {
     public List<Member> toDomain(List<MemberWithRoleDto> memberWithRoleDtos) {
         Map<MemberDto, List<MemberWithRoleDto>> rolesByMember = memberWithRoleDtos.stream()
                 .collect(groupingBy(
-                        memberWithRoleDto -> new MemberDto(memberWithRoleDto.getId(), memberWithRoleDto.getEmail())));
+                        memberWithRoleDto -> new MemberDto(memberWithRoleDto.getId(), memberWithRoleDto.getEmail()),
+                        LinkedHashMap::new,
+                        toList()));
         return rolesByMember.entrySet().stream()
                 .map(this::toMember)
                 .collect(toList());
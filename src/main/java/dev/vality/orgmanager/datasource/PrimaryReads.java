@@ -0,0 +1,37 @@
+package dev.vality.orgmanager.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keeps read-only transactions started inside {@link #call} on the primary. Loads whose results are cached
+ * until a membership change invalidates them must not be filled from a replica that has not seen the change yet.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    public static boolean isForced() {
+        return FORCED.get() != null;
+    }
+
+    public static <T, E extends Exception> T call(Read<T, E> read) throws E {
+        if (isForced()) {
+            return read.read();
+        }
+        FORCED.set(Boolean.TRUE);
+        try {
+            return read.read();
+        } finally {
+            FORCED.remove();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Read<T, E extends Exception> {
+
+        T read() throws E;
+
+    }
+}
@@ -0,0 +1,63 @@
+package dev.vality.orgmanager.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Tracks how far the replica is behind the primary, read-only transactions are kept on the primary
+ * while the replica lags more than allowed or can not be queried.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String REPLICA_LAG_METRIC = "org_manager.datasource.replica.lag";
+
+    // a streaming replica that has replayed everything it received is not lagging, even if the primary is idle;
+    // without a streaming wal receiver the replica may be arbitrarily stale, so the lag is unknown
+    private static final String LAG_QUERY = "SELECT CASE " +
+            " WHEN NOT pg_is_in_recovery() THEN 0 " +
+            " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+            " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 " +
+            " END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        Gauge.builder(REPLICA_LAG_METRIC, this, monitor -> monitor.lagMillis / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lagCheckDelay}")
+    public void checkLag() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            if (lag == null) {
+                log.warn("Replica lag is unknown, wal receiver is not streaming, reads stay on primary");
+                lagMillis = -1;
+                return;
+            }
+            lagMillis = lag.longValue();
+        } catch (DataAccessException e) {
+            log.warn("Unable to check replica lag, reads stay on primary", e);
+            lagMillis = -1;
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return lagMillis >= 0 && lagMillis <= maxLag.toMillis();
+    }
+
+}
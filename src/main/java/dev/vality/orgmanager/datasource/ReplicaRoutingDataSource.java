@@ -0,0 +1,74 @@
+package dev.vality.orgmanager.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Serves connections of read-only transactions from the replica and falls back to the primary
+ * when the replica lags or is unreachable, or when the read is forced onto the primary by {@link PrimaryReads}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends DelegatingDataSource {
+
+    public static final String ROUTING_METRIC = "org_manager.datasource.routing";
+    public static final String TARGET_TAG = "target";
+    public static final String REASON_TAG = "reason";
+    public static final String REPLICA = "replica";
+    public static final String PRIMARY = "primary";
+    public static final String READ_ONLY = "read_only";
+    public static final String LAG = "lag";
+    public static final String ERROR = "error";
+    public static final String FORCED = "forced";
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(DataSource replica,
+                                    DataSource primary,
+                                    ReplicaLagMonitor replicaLagMonitor,
+                                    MeterRegistry meterRegistry) {
+        super(replica);
+        this.primary = primary;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryReads.isForced()) {
+            return primaryConnection(FORCED);
+        }
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            return primaryConnection(LAG);
+        }
+        try {
+            Connection connection = super.getConnection();
+            count(REPLICA, READ_ONLY);
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Unable to get replica connection, falling back to primary", e);
+            return primaryConnection(ERROR);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private Connection primaryConnection(String reason) throws SQLException {
+        count(PRIMARY, reason);
+        return primary.getConnection();
+    }
+
+    private void count(String target, String reason) {
+        meterRegistry.counter(ROUTING_METRIC, TARGET_TAG, target, REASON_TAG, reason).increment();
+    }
+
+}
@@ -3,6 +3,7 @@ package dev.vality.orgmanager.entity;
 import lombok.*;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -14,7 +15,7 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "invitation")
-public class InvitationEntity implements Serializable {
+public class InvitationEntity implements Serializable, Persistable<String> {
 
     @Id
     private String id;
@@ -22,7 +23,7 @@ public class InvitationEntity implements Serializable {
 
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.MERGE, CascadeType.PERSIST})
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.PERSIST})
     @JoinTable(
             name = "invitation_to_member_role",
             joinColumns = @JoinColumn(name = "invitation_id"),
@@ -41,8 +42,26 @@ public class InvitationEntity implements Serializable {
     private String revocationReason;
     private String acceptedMemberId;
 
+    // ids are assigned by the application, so new invitations are persisted without a select and can be batched
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
     public boolean isExpired() {
         return expiresAt != null && expiresAt.isBefore(LocalDateTime.now());
     }
 
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
 }
@@ -0,0 +1,38 @@
+package dev.vality.orgmanager.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "mail_outbox")
+public class MailOutboxEntity implements Serializable {
+
+    public static final String PENDING = "Pending";
+    public static final String FAILED = "Failed";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String email;
+    private String body;
+    private String status;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+
+}
@@ -0,0 +1,22 @@
+package dev.vality.orgmanager.event;
+
+import lombok.Value;
+
+/**
+ * Published after a write that may change the roles or memberships of an organization.
+ * {@code memberId} is {@code null} when the change concerns the organization as a whole.
+ */
+@Value
+public class MembershipChangedEvent {
+
+    String organizationId;
+    String memberId;
+
+    public static MembershipChangedEvent ofOrganization(String organizationId) {
+        return new MembershipChangedEvent(organizationId, null);
+    }
+
+    public static MembershipChangedEvent ofMember(String organizationId, String memberId) {
+        return new MembershipChangedEvent(organizationId, memberId);
+    }
+}
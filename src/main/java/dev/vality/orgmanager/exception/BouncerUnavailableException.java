@@ -0,0 +1,26 @@
+package dev.vality.orgmanager.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+public class BouncerUnavailableException extends RuntimeException {
+
+    private final Reason reason;
+
+    public BouncerUnavailableException(Reason reason, Throwable cause) {
+        super("Bouncer is unavailable: " + reason.getValue(), cause);
+        this.reason = reason;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Reason {
+        CIRCUIT_OPEN("circuit_open"),
+        BULKHEAD_FULL("bulkhead_full"),
+        TIMEOUT("timeout"),
+        ERROR("error");
+
+        private final String value;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.vality.orgmanager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrgManagerMetrics {
+
+    public static final String OPERATION_TIMER = "org_manager.operation";
+    public static final String BOUNCER_JUDGE_TIMER = "org_manager.bouncer.judge";
+    public static final String MAIL_SEND_TIMER = "org_manager.mail.send";
+    public static final String INVITATION_EXPIRY_TIMER = "org_manager.invitation.expiry";
+
+    public static final String OPERATION_TAG = "operation";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String ORG_SIZE_TAG = "org_size";
+
+    private final MeterRegistry meterRegistry;
+    private final OrgSizeBuckets orgSizeBuckets;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String timerName, Outcome outcome) {
+        stop(sample, timerName, outcome, Tags.empty());
+    }
+
+    public void stop(Timer.Sample sample, String timerName, Outcome outcome, Tags tags) {
+        sample.stop(Timer.builder(timerName)
+                .tags(tags)
+                .tag(OUTCOME_TAG, outcome.getValue())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public Tags operationTags(String operation, String orgId) {
+        return Tags.of(
+                OPERATION_TAG, operation != null ? operation : "unknown",
+                ORG_SIZE_TAG, orgSizeBuckets.bucket(orgId));
+    }
+}
@@ -0,0 +1,60 @@
+package dev.vality.orgmanager.metrics;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import dev.vality.orgmanager.config.properties.OrgSizeMetricsProperties;
+import dev.vality.orgmanager.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps an organization to a coarse member count bucket used as a metric tag.
+ * Member counts are cached, so a bucket may lag behind the actual size by the configured ttl.
+ */
+@Slf4j
+@Component
+public class OrgSizeBuckets {
+
+    public static final String CACHE_NAME = "org-size";
+    public static final String NONE = "none";
+    public static final String UNKNOWN = "unknown";
+
+    private static final long[] UPPER_BOUNDS = {10, 100, 1_000, 10_000};
+    private static final String[] BUCKETS = {"0-10", "11-100", "101-1000", "1001-10000", "10001+"};
+
+    private final LoadingCache<String, Long> sizes;
+
+    public OrgSizeBuckets(OrgSizeMetricsProperties properties,
+                          MemberRepository memberRepository,
+                          MeterRegistry meterRegistry) {
+        this.sizes = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build(memberRepository::countMembers);
+        CaffeineCacheMetrics.monitor(meterRegistry, sizes, CACHE_NAME);
+    }
+
+    public String bucket(String orgId) {
+        if (orgId == null) {
+            return NONE;
+        }
+        try {
+            return bucketOf(sizes.get(orgId));
+        } catch (RuntimeException e) {
+            log.debug("Unable to resolve size of organization {}", orgId, e);
+            return UNKNOWN;
+        }
+    }
+
+    static String bucketOf(long size) {
+        for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+            if (size <= UPPER_BOUNDS[i]) {
+                return BUCKETS[i];
+            }
+        }
+        return BUCKETS[BUCKETS.length - 1];
+    }
+}
@@ -0,0 +1,16 @@
+package dev.vality.orgmanager.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Outcome {
+
+    SUCCESS("success"),
+    ALLOWED("allowed"),
+    DENIED("denied"),
+    ERROR("error");
+
+    private final String value;
+}
@@ -0,0 +1,81 @@
+package dev.vality.orgmanager.metrics;
+
+import dev.vality.orgmanager.config.properties.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier, e.g. while blocking inside synchronized blocks of the
+ * thrift and http clients used by woody, so that such call sites can be found under real load.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "virtual-threads.pinning", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    public static final String PINNED_TIMER = "org_manager.virtual_threads.pinned";
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 16;
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(properties.getThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        recordingStream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = pinnedSite(event);
+        Timer.builder(PINNED_TIMER)
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), stackTrace(event));
+    }
+
+    // the first frame outside of the jdk is the call site that blocked while pinned
+    static String pinnedSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(site -> !site.startsWith("java.") && !site.startsWith("jdk.") && !site.startsWith("sun."))
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    private static String stackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -0,0 +1,14 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.entity.InvitationEntity;
+
+import java.util.List;
+
+public interface InvitationBatchOperations {
+
+    /**
+     * Inserts new invitations together with their invitee roles using JDBC batches.
+     */
+    void insertAll(List<InvitationEntity> invitations);
+
+}
@@ -0,0 +1,67 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.entity.InvitationEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class InvitationBatchOperationsImpl implements InvitationBatchOperations {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_INVITATION = "INSERT INTO org_manager.invitation " +
+            "(id, organization_id, created_at, expires_at, accept_token, metadata, invitee_contact_type, " +
+            " invitee_contact_email, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MEMBER_ROLE = "INSERT INTO org_manager.member_role " +
+            "(id, organization_id, role_id, scope_id, resource_id, active) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_INVITATION_ROLE = "INSERT INTO org_manager.invitation_to_member_role " +
+            "(invitation_id, member_role_id) " +
+            "VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<InvitationEntity> invitations) {
+        if (invitations.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, MemberRoleEntity>> invitationRoles = invitations.stream()
+                .flatMap(invitation -> invitation.getInviteeRoles().stream()
+                        .map(role -> Map.entry(invitation.getId(), role)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_INVITATION, invitations, BATCH_SIZE, (ps, invitation) -> {
+            ps.setString(1, invitation.getId());
+            ps.setString(2, invitation.getOrganizationId());
+            ps.setTimestamp(3, Timestamp.valueOf(invitation.getCreatedAt()));
+            ps.setTimestamp(4, Timestamp.valueOf(invitation.getExpiresAt()));
+            ps.setString(5, invitation.getAcceptToken());
+            ps.setString(6, invitation.getMetadata());
+            ps.setString(7, invitation.getInviteeContactType());
+            ps.setString(8, invitation.getInviteeContactEmail());
+            ps.setString(9, invitation.getStatus());
+        });
+        if (invitationRoles.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_ROLE, invitationRoles, BATCH_SIZE, (ps, invitationRole) -> {
+            MemberRoleEntity role = invitationRole.getValue();
+            ps.setString(1, role.getId());
+            ps.setString(2, role.getOrganizationId());
+            ps.setString(3, role.getRoleId());
+            ps.setString(4, role.getScopeId());
+            ps.setString(5, role.getResourceId());
+            ps.setBoolean(6, role.isActive());
+        });
+        jdbcTemplate.batchUpdate(INSERT_INVITATION_ROLE, invitationRoles, BATCH_SIZE, (ps, invitationRole) -> {
+            ps.setString(1, invitationRole.getKey());
+            ps.setString(2, invitationRole.getValue().getId());
+        });
+    }
+}
@@ -1,33 +1,40 @@
 package dev.vality.orgmanager.repository;
 
 import dev.vality.orgmanager.entity.InvitationEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import jakarta.persistence.QueryHint;
-
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
-
-import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface InvitationRepository extends JpaRepository<InvitationEntity, String> {
+public interface InvitationRepository extends JpaRepository<InvitationEntity, String>, InvitationBatchOperations {
+
+    @Override
+    @EntityGraph(attributePaths = "inviteeRoles")
+    Optional<InvitationEntity> findById(String id);
 
+    @EntityGraph(attributePaths = "inviteeRoles")
     List<InvitationEntity> findByOrganizationIdAndStatus(String organizationId, String status);
 
+    @EntityGraph(attributePaths = "inviteeRoles")
     List<InvitationEntity> findByOrganizationId(String organizationId);
 
+    @EntityGraph(attributePaths = "inviteeRoles")
     Optional<InvitationEntity> findByAcceptToken(String token);
 
-    @QueryHints(value = {
-            @QueryHint(name = HINT_FETCH_SIZE, value = "10")
-    })
-    @Query("select i from InvitationEntity i where i.status = 'Pending'")
-    Stream<InvitationEntity> findAllPendingStatus();
+    @Modifying
+    @Query(value = "UPDATE org_manager.invitation SET status = 'Expired' " +
+            " WHERE id IN (SELECT id FROM org_manager.invitation " +
+            "               WHERE status = 'Pending' AND expires_at < ?1 " +
+            "               ORDER BY expires_at " +
+            "               LIMIT ?2 " +
+            "               FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int expirePending(LocalDateTime now, int limit);
 
 
     Optional<InvitationEntity> findByIdAndOrganizationId(String id, String orgId);
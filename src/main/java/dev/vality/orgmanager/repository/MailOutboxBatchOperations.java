@@ -0,0 +1,14 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.entity.MailOutboxEntity;
+
+import java.util.List;
+
+public interface MailOutboxBatchOperations {
+
+    /**
+     * Inserts new outbox mails using JDBC batches, generated ids are not read back.
+     */
+    void insertAll(List<MailOutboxEntity> mails);
+
+}
@@ -0,0 +1,32 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.entity.MailOutboxEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MailOutboxBatchOperationsImpl implements MailOutboxBatchOperations {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_MAIL = "INSERT INTO org_manager.mail_outbox " +
+            "(email, body, status, attempts, created_at, next_attempt_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<MailOutboxEntity> mails) {
+        jdbcTemplate.batchUpdate(INSERT_MAIL, mails, BATCH_SIZE, (ps, mail) -> {
+            ps.setString(1, mail.getEmail());
+            ps.setString(2, mail.getBody());
+            ps.setString(3, mail.getStatus());
+            ps.setInt(4, mail.getAttempts());
+            ps.setTimestamp(5, Timestamp.valueOf(mail.getCreatedAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(mail.getNextAttemptAt()));
+        });
+    }
+}
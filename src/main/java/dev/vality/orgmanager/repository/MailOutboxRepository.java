@@ -0,0 +1,20 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.entity.MailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long>, MailOutboxBatchOperations {
+
+    @Query(value = "SELECT * FROM org_manager.mail_outbox " +
+            " WHERE status = 'Pending' AND next_attempt_at <= ?1 " +
+            " ORDER BY next_attempt_at " +
+            " LIMIT ?2", nativeQuery = true)
+    List<MailOutboxEntity> findReadyForDispatch(LocalDateTime now, int limit);
+
+}
@@ -2,14 +2,16 @@ package dev.vality.orgmanager.repository;
 
 import dev.vality.orgmanager.entity.MemberEntity;
 import dev.vality.orgmanager.service.dto.MemberWithRoleDto;
+import dev.vality.orgmanager.service.dto.UserContextRowDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface MemberRepository extends JpaRepository<MemberEntity, String> {
+public interface MemberRepository extends JpaRepository<MemberEntity, String>, MembershipCheckOperations {
 
 
     @Query(value = "SELECT m.id, " +
@@ -32,7 +34,86 @@ public interface MemberRepository extends JpaRepository<MemberEntity, String> {
             "     AND m.id = mtmr.member_id ", nativeQuery = true)
     List<MemberWithRoleDto> getOrgMemberList(String orgId);
 
+    @Query(value = "WITH page AS ( " +
+            "     SELECT mto.member_id " +
+            "       FROM org_manager.member_to_organization mto " +
+            "      WHERE mto.organization_id = ?1 " +
+            "        AND mto.member_id > ?2 " +
+            "        AND EXISTS (SELECT 1 " +
+            "                      FROM org_manager.member_to_member_role mtmr, " +
+            "                           org_manager.member_role mr " +
+            "                     WHERE mtmr.member_id = mto.member_id " +
+            "                       AND mr.id = mtmr.member_role_id " +
+            "                       AND mr.organization_id = mto.organization_id " +
+            "                       AND mr.active = 'true') " +
+            "      ORDER BY mto.member_id " +
+            "      LIMIT ?3 " +
+            " ) " +
+            " SELECT m.id, " +
+            "        m.email, " +
+            "        mr.id as memberRoleId, " +
+            "        mr.organization_id as organizationId, " +
+            "        mr.role_id as roleId, " +
+            "        mr.scope_id as scopeId, " +
+            "        mr.resource_id as resourceId" +
+            "   FROM page p, " +
+            "        org_manager.member m, " +
+            "        org_manager.member_to_member_role mtmr, " +
+            "        org_manager.member_role mr " +
+            "  WHERE m.id = p.member_id " +
+            "    AND mtmr.member_id = m.id " +
+            "    AND mr.id = mtmr.member_role_id " +
+            "    AND mr.organization_id = ?1 " +
+            "    AND mr.active = 'true' " +
+            "  ORDER BY m.id ", nativeQuery = true)
+    List<MemberWithRoleDto> getOrgMemberPage(String orgId, String afterMemberId, int limit);
+
     boolean existsById(String id);
 
+    @Query(value = "SELECT count(*) FROM org_manager.member_to_organization WHERE organization_id = ?1",
+            nativeQuery = true)
+    long countMembers(String orgId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM org_manager.member_to_organization " +
+            "               WHERE organization_id = ?1 AND member_id = ?2)", nativeQuery = true)
+    boolean existsMembership(String orgId, String memberId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM org_manager.member_to_organization " +
+            " WHERE organization_id = ?1 AND member_id = ?2", nativeQuery = true)
+    int deleteMembership(String orgId, String memberId);
+
+    @Query(value = "WITH orgs AS ( " +
+            "     SELECT o.id, o.owner, o.party " +
+            "       FROM org_manager.organization o " +
+            "      WHERE o.owner = ?1 " +
+            "      UNION " +
+            "     SELECT o.id, o.owner, o.party " +
+            "       FROM org_manager.member_to_organization mto, " +
+            "            org_manager.organization o " +
+            "      WHERE mto.member_id = ?1 " +
+            "        AND o.id = mto.organization_id " +
+            " ) " +
+            " SELECT m.id as memberId, " +
+            "        m.email, " +
+            "        EXISTS (SELECT 1 FROM org_manager.member_to_member_role " +
+            "                 WHERE member_id = ?1) as hasRoles, " +
+            "        orgs.id as organizationId, " +
+            "        orgs.owner, " +
+            "        orgs.party, " +
+            "        mr.id as memberRoleId, " +
+            "        mr.role_id as roleId, " +
+            "        mr.scope_id as scopeId, " +
+            "        mr.resource_id as resourceId, " +
+            "        mr.active" +
+            "   FROM (SELECT CAST(?1 AS CHARACTER VARYING) AS id) subject " +
+            "   LEFT JOIN org_manager.member m ON m.id = subject.id " +
+            "   LEFT JOIN orgs ON TRUE " +
+            "   LEFT JOIN (org_manager.member_to_member_role mtmr " +
+            "              JOIN org_manager.member_role mr ON mr.id = mtmr.member_role_id) " +
+            "          ON mtmr.member_id = m.id " +
+            "         AND mr.organization_id = orgs.id ", nativeQuery = true)
+    List<UserContextRowDto> findUserContext(String id);
+
 
 }
@@ -2,6 +2,7 @@ package dev.vality.orgmanager.repository;
 
 import dev.vality.orgmanager.entity.MemberRoleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +11,8 @@ import java.util.List;
 public interface MemberRoleRepository extends JpaRepository<MemberRoleEntity, String> {
 
     List<MemberRoleEntity> findByOrganizationId(String organizationId);
+
+    @Query("select r from MemberEntity m join m.roles r " +
+            "where m.id = ?1 and r.organizationId = ?2 and r.active = true")
+    List<MemberRoleEntity> findActiveByMemberIdAndOrganizationId(String memberId, String organizationId);
 }
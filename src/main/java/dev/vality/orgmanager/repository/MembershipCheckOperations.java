@@ -0,0 +1,15 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.service.dto.MembershipCheck;
+
+import java.util.BitSet;
+import java.util.List;
+
+public interface MembershipCheckOperations {
+
+    /**
+     * Answers all checks with a single query, bit {@code i} is set when check {@code i} holds.
+     */
+    BitSet checkMemberships(List<MembershipCheck> checks);
+
+}
@@ -0,0 +1,53 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.service.dto.MembershipCheck;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.BitSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MembershipCheckOperationsImpl implements MembershipCheckOperations {
+
+    private static final String CHECK_MEMBERSHIPS = "SELECT c.idx " +
+            "  FROM unnest(CAST(? AS CHARACTER VARYING[]), " +
+            "              CAST(? AS CHARACTER VARYING[]), " +
+            "              CAST(? AS CHARACTER VARYING[])) " +
+            "       WITH ORDINALITY AS c(member_id, organization_id, role_id, idx) " +
+            " WHERE EXISTS (SELECT 1 " +
+            "                 FROM org_manager.member_to_organization mto " +
+            "                WHERE mto.member_id = c.member_id " +
+            "                  AND mto.organization_id = c.organization_id) " +
+            "   AND (c.role_id IS NULL " +
+            "        OR EXISTS (SELECT 1 " +
+            "                     FROM org_manager.member_to_member_role mtmr, " +
+            "                          org_manager.member_role mr " +
+            "                    WHERE mtmr.member_id = c.member_id " +
+            "                      AND mr.id = mtmr.member_role_id " +
+            "                      AND mr.organization_id = c.organization_id " +
+            "                      AND mr.role_id = c.role_id " +
+            "                      AND mr.active = 'true'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public BitSet checkMemberships(List<MembershipCheck> checks) {
+        BitSet result = new BitSet(checks.size());
+        if (checks.isEmpty()) {
+            return result;
+        }
+        String[] memberIds = new String[checks.size()];
+        String[] organizationIds = new String[checks.size()];
+        String[] roleIds = new String[checks.size()];
+        for (int i = 0; i < checks.size(); i++) {
+            MembershipCheck check = checks.get(i);
+            memberIds[i] = check.getUserId();
+            organizationIds[i] = check.getOrganizationId();
+            roleIds[i] = check.getRoleId();
+        }
+        jdbcTemplate.query(CHECK_MEMBERSHIPS, rs -> result.set(rs.getInt(1) - 1),
+                memberIds, organizationIds, roleIds);
+        return result;
+    }
+}
@@ -11,32 +11,41 @@ import java.util.Set;
 @Repository
 public interface OrganizationRepository extends JpaRepository<OrganizationEntity, String> {
 
-    @Query(value =
+    String FIND_ALL_BY_MEMBER =
             " SELECT * FROM org_manager.organization AS o " +
                     " WHERE o.id IN " +
                     " ( " +
-                    "  SELECT mo.organization_id FROM org_manager.member_to_organization AS mo " +
-                    "   WHERE mo.member_id = ?1 " +
+                    "  (SELECT mo.organization_id FROM org_manager.member_to_organization AS mo " +
+                    "     WHERE mo.member_id = ?1 " +
+                    "     ORDER BY mo.organization_id DESC LIMIT ?2) " +
                     "   UNION " +
-                    "  SELECT id FROM org_manager.organization WHERE owner = ?1 " +
+                    "  (SELECT id FROM org_manager.organization " +
+                    "     WHERE owner = ?1 " +
+                    "     ORDER BY id DESC LIMIT ?2) " +
                     " ) " +
-                    " ORDER BY o.id DESC",
-            nativeQuery = true)
-    List<OrganizationEntity> findAllByMember(String userId);
+                    " ORDER BY o.id DESC " +
+                    " LIMIT ?2";
 
-    @Query(value =
+    String FIND_ALL_BY_MEMBER_AFTER =
             " SELECT * FROM org_manager.organization AS o " +
                     " WHERE o.id IN " +
                     "  ( " +
-                    "    SELECT mo.organization_id FROM org_manager.member_to_organization AS mo " +
-                    "     WHERE mo.member_id = ?1 " +
-                    "      UNION " +
-                    "    SELECT id FROM org_manager.organization WHERE owner = ?1 " +
-                    "   ) " +
-                    " AND o.id < ?2 " +
-                    " ORDER BY o.id DESC",
-            nativeQuery = true)
-    List<OrganizationEntity> findAllByMember(String userId, String continuationId);
+                    "   (SELECT mo.organization_id FROM org_manager.member_to_organization AS mo " +
+                    "      WHERE mo.member_id = ?1 AND mo.organization_id < ?2 " +
+                    "      ORDER BY mo.organization_id DESC LIMIT ?3) " +
+                    "    UNION " +
+                    "   (SELECT id FROM org_manager.organization " +
+                    "      WHERE owner = ?1 AND id < ?2 " +
+                    "      ORDER BY id DESC LIMIT ?3) " +
+                    "  ) " +
+                    " ORDER BY o.id DESC " +
+                    " LIMIT ?3";
+
+    @Query(value = FIND_ALL_BY_MEMBER, nativeQuery = true)
+    List<OrganizationEntity> findAllByMember(String userId, int limit);
+
+    @Query(value = FIND_ALL_BY_MEMBER_AFTER, nativeQuery = true)
+    List<OrganizationEntity> findAllByMember(String userId, String continuationId, int limit);
 
     Set<OrganizationEntity> findAllByOwner(String owner);
 
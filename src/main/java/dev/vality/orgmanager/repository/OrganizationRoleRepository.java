@@ -1,13 +1,19 @@
 package dev.vality.orgmanager.repository;
 
 import dev.vality.orgmanager.entity.OrganizationRoleEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrganizationRoleRepository extends JpaRepository<OrganizationRoleEntity, String> {
 
+    @EntityGraph(attributePaths = "possibleScopes")
     Optional<OrganizationRoleEntity> findByOrganizationIdAndRoleId(String organizationId, String roleId);
+
+    @EntityGraph(attributePaths = "possibleScopes")
+    List<OrganizationRoleEntity> findByOrganizationId(String organizationId);
 }
\ No newline at end of file
@@ -14,13 +14,14 @@ import org.springframework.stereotype.Service;
 @ConditionalOnProperty(prefix = "scheduler", name = "invitation.enabled", havingValue = "true")
 public class InvitationScheduler {
 
-    private InvitationService invitationService;
+    private final InvitationService invitationService;
 
-    @Scheduled(fixedDelayString = "${service.dominant.scheduler.checkStatusDelay}")
+    @Scheduled(fixedDelayString = "${scheduler.invitation.checkStatusDelay}")
     @SchedulerLock(name = "invitationStatus")
     public void pollScheduler() {
         log.info("Performing verification of expired invites");
-        invitationService.checkAndModifyExpiredStatus();
+        int expired = invitationService.checkAndModifyExpiredStatus();
+        log.info("Expired invites: {}", expired);
     }
 
 }
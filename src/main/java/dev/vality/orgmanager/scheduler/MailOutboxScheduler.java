@@ -0,0 +1,28 @@
+package dev.vality.orgmanager.scheduler;
+
+import dev.vality.orgmanager.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler", name = "mail-outbox.enabled", havingValue = "true")
+public class MailOutboxScheduler {
+
+    private final MailOutboxService mailOutboxService;
+
+    @Scheduled(fixedDelayString = "${scheduler.mail-outbox.dispatchDelay}")
+    @SchedulerLock(name = "mailOutbox", lockAtMostFor = "${scheduler.mail-outbox.lockFor}")
+    public void pollScheduler() {
+        int delivered = mailOutboxService.dispatch();
+        if (delivered > 0) {
+            log.info("Delivered invitation mails: {}", delivered);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package dev.vality.orgmanager.security;
+
+import lombok.Getter;
+import org.keycloak.representations.AccessToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+@Getter
+public class AccessTokenAuthentication extends JwtAuthenticationToken {
+
+    private final transient AccessToken accessToken;
+
+    public AccessTokenAuthentication(Jwt jwt,
+                                     Collection<? extends GrantedAuthority> authorities,
+                                     AccessToken accessToken) {
+        super(jwt, authorities);
+        this.accessToken = accessToken;
+    }
+}
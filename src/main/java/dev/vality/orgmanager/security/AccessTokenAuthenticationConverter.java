@@ -0,0 +1,23 @@
+package dev.vality.orgmanager.security;
+
+import dev.vality.orgmanager.service.KeycloakService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+@RequiredArgsConstructor
+public class AccessTokenAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final KeycloakService keycloakService;
+    private final JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        return new AccessTokenAuthentication(
+                jwt,
+                authoritiesConverter.convert(jwt),
+                keycloakService.toAccessToken(jwt));
+    }
+}
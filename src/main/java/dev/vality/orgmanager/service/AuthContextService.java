@@ -4,41 +4,62 @@ import dev.vality.bouncer.context.v1.User;
 import dev.vality.bouncer.ctx.ContextFragment;
 import dev.vality.bouncer.ctx.ContextFragmentType;
 import dev.vality.orgmanagement.AuthContextProviderSrv;
+import dev.vality.orgmanager.cache.AuthContextCache;
+import dev.vality.orgmanager.cache.AuthContextEntry;
+import dev.vality.orgmanager.cache.AuthContextKey;
+import dev.vality.orgmanager.cache.AuthContextSingleFlight;
 import dev.vality.orgmanager.converter.BouncerContextConverter;
+import dev.vality.orgmanager.entity.OrganizationEntity;
 import dev.vality.orgmanager.service.model.UserInfo;
+import dev.vality.orgmanager.util.ThriftSerializerUtils;
 import dev.vality.woody.api.trace.ContextUtils;
 import dev.vality.woody.api.trace.context.metadata.user.UserIdentityEmailExtensionKit;
 import lombok.RequiredArgsConstructor;
 import org.apache.thrift.TException;
-import org.apache.thrift.TSerializer;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class AuthContextService implements AuthContextProviderSrv.Iface {
 
     private final UserService userService;
     private final BouncerContextConverter bouncerConverter;
+    private final AuthContextCache authContextCache;
+    private final AuthContextSingleFlight authContextSingleFlight;
 
     @Override
     public ContextFragment getUserContext(String id) throws TException {
-        dev.vality.bouncer.context.v1.ContextFragment contextFragment =
-                new dev.vality.bouncer.context.v1.ContextFragment();
-        contextFragment.setUser(getUser(id));
-        TSerializer byteSerializer = new TSerializer();
+        String email = ContextUtils.getCustomMetadataValue(UserIdentityEmailExtensionKit.INSTANCE.getExtension());
+        AuthContextKey key = new AuthContextKey(id, email);
+        AuthContextCache.EntryLoader loader = () -> authContextSingleFlight.execute(key, () -> buildEntry(id, email));
+        AuthContextEntry entry = authContextCache.isEnabled()
+                ? authContextCache.get(key, loader)
+                : loader.load();
         return new ContextFragment()
                 .setType(ContextFragmentType.v1_thrift_binary)
-                .setContent(byteSerializer.serialize(contextFragment));
+                .setContent(entry.getContent());
     }
 
-    private User getUser(String id) {
+    private AuthContextEntry buildEntry(String id, String email) throws TException {
         UserInfo userInfo = userService.findById(id);
-        User bouncerUser = bouncerConverter.toUser(userInfo.getMember(), userInfo.getOrganizations());
+        dev.vality.bouncer.context.v1.ContextFragment contextFragment =
+                new dev.vality.bouncer.context.v1.ContextFragment();
+        contextFragment.setUser(getUser(id, email, userInfo));
+        Set<String> organizationIds = userInfo.getOrganizations().stream()
+                .map(OrganizationEntity::getId)
+                .collect(Collectors.toSet());
+        return new AuthContextEntry(ThriftSerializerUtils.serialize(contextFragment), organizationIds);
+    }
+
+    private User getUser(String id, String email, UserInfo userInfo) {
+        User bouncerUser = bouncerConverter.toUser(
+                userInfo.getMember(), userInfo.getOrganizations(), userInfo.getRolesByOrganization());
         if (userInfo.getMember() == null) {
             bouncerUser.setId(id);
-            bouncerUser.setEmail(
-                    ContextUtils.getCustomMetadataValue(UserIdentityEmailExtensionKit.INSTANCE.getExtension())
-            );
+            bouncerUser.setEmail(email);
         }
         return bouncerUser;
     }
@@ -0,0 +1,162 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.orgmanager.config.properties.BouncerResilienceProperties;
+import dev.vality.orgmanager.exception.BouncerUnavailableException;
+import dev.vality.orgmanager.exception.BouncerUnavailableException.Reason;
+import dev.vality.woody.api.flow.WFlow;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.context.Context;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds bouncer calls with a circuit breaker, a concurrency limit and a timeout per operation class,
+ * so a slow bouncer fails requests fast instead of holding their threads for the whole network timeout.
+ * Business errors returned by bouncer are passed through and do not open the circuit.
+ */
+@Slf4j
+@Component
+public class BouncerCallGuard {
+
+    public static final String NAME = "bouncer";
+    public static final String TRANSITIONS_METRIC = "org_manager.bouncer.circuit_breaker.transitions";
+    private static final List<String> READ_OPERATION_PREFIXES = List.of("get", "list", "inquire");
+
+    private final BouncerResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    // a timed out bouncer call is interrupted, which closes its socket on a virtual thread
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BouncerCallGuard(BouncerResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(e -> !(e instanceof TBase))
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Bouncer circuit breaker transition: {}", event.getStateTransition());
+            meterRegistry.counter(TRANSITIONS_METRIC,
+                            "from", stateName(event.getStateTransition().getFromState()),
+                            "to", stateName(event.getStateTransition().getToState()))
+                    .increment();
+        });
+    }
+
+    public <T> T call(String operationName, ThriftCall<T> call) throws TException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new BouncerUnavailableException(Reason.CIRCUIT_OPEN, null);
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new BouncerUnavailableException(Reason.BULKHEAD_FULL, null);
+        }
+        long start = System.nanoTime();
+        // whoever claims the call first releases the bulkhead permit, the task or the caller cancelling it
+        AtomicBoolean claimed = new AtomicBoolean();
+        Callable<T> task = () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new CancellationException();
+            }
+            try {
+                return call.call();
+            } finally {
+                bulkhead.onComplete();
+            }
+        };
+        // the call leaves the request thread, it keeps the caller's woody trace and otel span
+        Future<T> future = executor.submit(WFlow.create(Context.current().wrap(task)));
+        try {
+            T result = future.get(timeout(operationName).toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (TimeoutException e) {
+            cancel(future, claimed);
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw new BouncerUnavailableException(Reason.TIMEOUT, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, cause);
+            if (cause instanceof TBase && cause instanceof TException businessError) {
+                throw businessError;
+            }
+            throw new BouncerUnavailableException(Reason.ERROR, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future, claimed);
+            circuitBreaker.releasePermission();
+            throw new BouncerUnavailableException(Reason.ERROR, e);
+        }
+    }
+
+    private void cancel(Future<?> future, AtomicBoolean claimed) {
+        future.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            bulkhead.onComplete();
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    Duration timeout(String operationName) {
+        boolean read = operationName != null && READ_OPERATION_PREFIXES.stream().anyMatch(operationName::startsWith);
+        return read ? properties.getReadTimeout() : properties.getWriteTimeout();
+    }
+
+    int availableConcurrentCalls() {
+        return bulkhead.getMetrics().getAvailableConcurrentCalls();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static String stateName(CircuitBreaker.State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    public interface ThriftCall<T> {
+        T call() throws TException;
+    }
+}
@@ -7,14 +7,12 @@ import dev.vality.bouncer.ctx.ContextFragmentType;
 import dev.vality.bouncer.decisions.Context;
 import dev.vality.orgmanagement.UserNotFound;
 import dev.vality.orgmanager.config.properties.BouncerProperties;
-import dev.vality.orgmanager.converter.BouncerContextConverter;
 import dev.vality.orgmanager.service.dto.BouncerContextDto;
 import dev.vality.orgmanager.service.dto.InvitationDto;
-import dev.vality.orgmanager.service.model.UserInfo;
+import dev.vality.orgmanager.util.ThriftSerializerUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.thrift.TException;
-import org.apache.thrift.TSerializer;
 import org.keycloak.representations.AccessToken;
 import org.springframework.stereotype.Service;
 
@@ -26,18 +24,15 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class BouncerContextFactory {
 
-    private final BouncerContextConverter bouncerConverter;
     private final BouncerProperties bouncerProperties;
-    private final UserService userService;
-    private final KeycloakService keycloakService;
+    private final CallerContext callerContext;
 
     public Context buildContext(BouncerContextDto bouncerContext) throws TException {
         Context context = new Context();
         dev.vality.bouncer.ctx.ContextFragment fragment = new dev.vality.bouncer.ctx.ContextFragment();
         fragment.setType(ContextFragmentType.v1_thrift_binary);
         ContextFragment contextFragment = buildContextFragment(bouncerContext);
-        TSerializer serializer = new TSerializer();
-        fragment.setContent(serializer.serialize(contextFragment));
+        fragment.setContent(ThriftSerializerUtils.serialize(contextFragment));
         context.putToFragments(bouncerProperties.getContextFragmentId(), fragment);
         return context;
     }
@@ -55,7 +50,7 @@ public class BouncerContextFactory {
     }
 
     private Auth buildAuth() {
-        AccessToken accessToken = keycloakService.getAccessToken();
+        AccessToken accessToken = callerContext.getAccessToken();
         String expiration = Instant.ofEpochSecond(accessToken.getExp()).toString();
         return new Auth()
                 .setToken(new Token().setId(accessToken.getId()))
@@ -64,13 +59,7 @@ public class BouncerContextFactory {
     }
 
     private User buildUser() {
-        AccessToken accessToken = keycloakService.getAccessToken();
-        UserInfo userInfo = userService.findById(accessToken.getSubject());
-        User bouncerUser = bouncerConverter.toUser(userInfo.getMember(), userInfo.getOrganizations());
-        if (userInfo.getMember() == null) {
-            bouncerUser.setId(accessToken.getSubject());
-            bouncerUser.setEmail(accessToken.getEmail());
-        }
+        User bouncerUser = callerContext.getBouncerUser();
         bouncerUser.setRealm(new Entity().setId(bouncerProperties.getRealm()));
         return bouncerUser;
     }
@@ -5,11 +5,20 @@ import dev.vality.bouncer.decisions.Context;
 import dev.vality.bouncer.decisions.Judgement;
 import dev.vality.bouncer.decisions.Resolution;
 import dev.vality.orgmanagement.UserNotFound;
+import dev.vality.orgmanager.cache.BouncerDecisionCache;
+import dev.vality.orgmanager.cache.BouncerDecisionKey;
+import dev.vality.orgmanager.cache.LastKnownGoodDecisionStore;
 import dev.vality.orgmanager.config.properties.BouncerProperties;
+import dev.vality.orgmanager.datasource.PrimaryReads;
 import dev.vality.orgmanager.exception.BouncerException;
+import dev.vality.orgmanager.exception.BouncerUnavailableException;
+import dev.vality.orgmanager.metrics.OrgManagerMetrics;
+import dev.vality.orgmanager.metrics.Outcome;
 import dev.vality.orgmanager.service.dto.BouncerContextDto;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.apache.thrift.TException;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,18 +28,69 @@ public class BouncerServiceImpl implements BouncerService {
     private final BouncerContextFactory bouncerContextFactory;
     private final ArbiterSrv.Iface bouncerClient;
     private final BouncerProperties bouncerProperties;
+    private final BouncerDecisionCache bouncerDecisionCache;
+    private final CallerContext callerContext;
+    private final OrgManagerMetrics orgManagerMetrics;
+    private final BouncerCallGuard bouncerCallGuard;
+    private final LastKnownGoodDecisionStore lastKnownGoodDecisionStore;
 
     @Override
     public boolean havePrivileges(BouncerContextDto bouncerContext) {
+        BouncerDecisionKey key = decisionKey(bouncerContext);
+        try {
+            // a kept decision outlives the membership change that invalidates it only if judged from the primary
+            boolean decision = key != null
+                    ? PrimaryReads.call(() -> decide(key, bouncerContext))
+                    : judge(bouncerContext);
+            lastKnownGoodDecisionStore.put(key, decision);
+            return decision;
+        } catch (BouncerUnavailableException e) {
+            return lastKnownGoodDecisionStore.degradedDecision(key, e);
+        }
+    }
+
+    private boolean decide(BouncerDecisionKey key, BouncerContextDto bouncerContext) {
+        return bouncerDecisionCache.isEnabled()
+                ? bouncerDecisionCache.get(key, () -> judge(bouncerContext))
+                : judge(bouncerContext);
+    }
+
+    @Nullable
+    private BouncerDecisionKey decisionKey(BouncerContextDto bouncerContext) {
+        if (!bouncerDecisionCache.isEnabled() && !lastKnownGoodDecisionStore.isEnabled()) {
+            return null;
+        }
+        return BouncerDecisionKey.of(
+                bouncerProperties.getRuleSetId(),
+                callerContext.getAccessToken(),
+                bouncerContext);
+    }
+
+    private boolean judge(BouncerContextDto bouncerContext) {
         try {
             Context context = bouncerContextFactory.buildContext(bouncerContext);
-            Judgement judge = bouncerClient.judge(bouncerProperties.getRuleSetId(), context);
-            Resolution resolution = judge.getResolution();
-            return resolution.isSetAllowed();
+            return judge(context, bouncerContext);
         } catch (UserNotFound e) {
             throw new BouncerException("Error while build bouncer context", e);
         } catch (TException e) {
             throw new BouncerException("Error while call bouncer", e);
         }
     }
+
+    private boolean judge(Context context, BouncerContextDto bouncerContext) throws TException {
+        Timer.Sample sample = orgManagerMetrics.start();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            Judgement judge = bouncerCallGuard.call(bouncerContext.getOperationName(),
+                    () -> bouncerClient.judge(bouncerProperties.getRuleSetId(), context));
+            Resolution resolution = judge.getResolution();
+            boolean allowed = resolution.isSetAllowed();
+            outcome = allowed ? Outcome.ALLOWED : Outcome.DENIED;
+            return allowed;
+        } finally {
+            orgManagerMetrics.stop(sample, OrgManagerMetrics.BOUNCER_JUDGE_TIMER, outcome,
+                    orgManagerMetrics.operationTags(
+                            bouncerContext.getOperationName(), bouncerContext.getOrganizationId()));
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.bouncer.context.v1.User;
+import dev.vality.orgmanager.converter.BouncerContextConverter;
+import dev.vality.orgmanager.service.model.UserInfo;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.keycloak.representations.AccessToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Caller data resolved lazily at most once per HTTP request and shared by everything serving it.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CallerContext {
+
+    private final KeycloakService keycloakService;
+    private final UserService userService;
+    private final BouncerContextConverter bouncerConverter;
+
+    private AccessToken accessToken;
+    private UserInfo userInfo;
+    private User bouncerUser;
+
+    @Getter
+    private int userLookups;
+
+    @Getter
+    @Setter
+    private String operationId;
+
+    public AccessToken getAccessToken() {
+        if (accessToken == null) {
+            accessToken = keycloakService.getAccessToken();
+        }
+        return accessToken;
+    }
+
+    public UserInfo getUserInfo() {
+        if (userInfo == null) {
+            userInfo = userService.findById(getAccessToken().getSubject());
+            userLookups++;
+        }
+        return userInfo;
+    }
+
+    public User getBouncerUser() {
+        if (bouncerUser == null) {
+            UserInfo info = getUserInfo();
+            User user = bouncerConverter.toUser(
+                    info.getMember(), info.getOrganizations(), info.getRolesByOrganization());
+            if (info.getMember() == null) {
+                user.setId(getAccessToken().getSubject());
+                user.setEmail(getAccessToken().getEmail());
+            }
+            bouncerUser = user;
+        }
+        return bouncerUser;
+    }
+}
@@ -1,25 +1,36 @@
 package dev.vality.orgmanager.service;
 
+import dev.vality.orgmanager.config.properties.InvitationExpiryProperties;
 import dev.vality.orgmanager.converter.InvitationConverter;
 import dev.vality.orgmanager.entity.InvitationEntity;
 import dev.vality.orgmanager.exception.InviteAlreadyAcceptedException;
 import dev.vality.orgmanager.exception.InviteExpiredException;
 import dev.vality.orgmanager.exception.InviteRevokedException;
 import dev.vality.orgmanager.exception.ResourceNotFoundException;
+import dev.vality.orgmanager.metrics.OrgManagerMetrics;
+import dev.vality.orgmanager.metrics.Outcome;
 import dev.vality.orgmanager.repository.InvitationRepository;
 import dev.vality.orgmanager.repository.OrganizationRepository;
+import dev.vality.orgmanager.service.dto.InvitationBatchResult;
 import dev.vality.swag.organizations.model.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -29,10 +40,16 @@ import static java.util.stream.Collectors.toList;
 @Slf4j
 public class InvitationService {
 
+    public static final String EXPIRED_INVITATIONS_METRIC = "org_manager.invitations.expired";
+
     private final InvitationConverter invitationConverter;
     private final InvitationRepository invitationRepository;
     private final OrganizationRepository organizationRepository;
-    private final MailMessageSender mailMessageSender;
+    private final MailOutboxService mailOutboxService;
+    private final InvitationExpiryProperties invitationExpiryProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OrgManagerMetrics orgManagerMetrics;
 
     // TODO [a.romanov]: idempotency
     @Transactional
@@ -43,10 +60,45 @@ public class InvitationService {
         InvitationEntity entity = invitationConverter.toEntity(invitation, orgId);
         InvitationEntity savedEntity = invitationRepository.save(entity);
         Invitation savedInvitation = invitationConverter.toDomain(savedEntity);
-        mailMessageSender.send(savedEntity.getAcceptToken(), savedEntity.getInviteeContactEmail());
+        mailOutboxService.enqueue(savedEntity.getAcceptToken(), savedEntity.getInviteeContactEmail());
         return savedInvitation;
     }
 
+    /**
+     * Creates invitations for every valid invitee in one transaction, invalid or repeated invitees
+     * are reported in the result without failing the whole batch.
+     */
+    @Transactional
+    public List<InvitationBatchResult> createBatch(String orgId, List<InvitationRequest> invitations) {
+        if (!organizationRepository.existsById(orgId)) {
+            throw new ResourceNotFoundException();
+        }
+        List<InvitationBatchResult> results = new ArrayList<>(invitations.size());
+        List<InvitationEntity> entities = new ArrayList<>(invitations.size());
+        Map<String, String> acceptTokensByEmail = new LinkedHashMap<>();
+        for (InvitationRequest invitation : invitations) {
+            String email = Optional.ofNullable(invitation.getInvitee())
+                    .map(Invitee::getContact)
+                    .map(InviteeContact::getEmail)
+                    .orElse(null);
+            if (!StringUtils.hasText(email)) {
+                results.add(InvitationBatchResult.rejected(email, "Invitee email is required"));
+                continue;
+            }
+            if (acceptTokensByEmail.containsKey(email)) {
+                results.add(InvitationBatchResult.rejected(email, "Invitee is repeated in the batch"));
+                continue;
+            }
+            InvitationEntity entity = invitationConverter.toEntity(invitation, orgId);
+            entities.add(entity);
+            acceptTokensByEmail.put(email, entity.getAcceptToken());
+            results.add(InvitationBatchResult.created(email, invitationConverter.toDomain(entity)));
+        }
+        invitationRepository.insertAll(entities);
+        mailOutboxService.enqueueAll(acceptTokensByEmail);
+        return results;
+    }
+
     public ResponseEntity<Invitation> get(String invitationId) {
         Optional<InvitationEntity> entity = invitationRepository.findById(invitationId);
 
@@ -97,14 +149,26 @@ public class InvitationService {
 
     }
 
-    @Transactional
-    public void checkAndModifyExpiredStatus() {
-        Stream<InvitationEntity> invitationEntity = invitationRepository.findAllPendingStatus();
-        invitationEntity.forEach(invitation -> {
-            if (invitation.getExpiresAt().isBefore(LocalDateTime.now())) {
-                invitation.setStatus(InvitationStatusName.EXPIRED.getValue());
-            }
-        });
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int checkAndModifyExpiredStatus() {
+        Timer.Sample sample = orgManagerMetrics.start();
+        Outcome outcome = Outcome.ERROR;
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = invitationExpiryProperties.getBatchSize();
+        int total = 0;
+        try {
+            int expired;
+            do {
+                // every batch is committed on its own to keep row locks short
+                expired = transactionTemplate.execute(status -> invitationRepository.expirePending(now, batchSize));
+                total += expired;
+            } while (expired == batchSize);
+            outcome = Outcome.SUCCESS;
+            return total;
+        } finally {
+            meterRegistry.counter(EXPIRED_INVITATIONS_METRIC).increment(total);
+            orgManagerMetrics.stop(sample, OrgManagerMetrics.INVITATION_EXPIRY_TIMER, outcome);
+        }
     }
 
     public InvitationEntity findByToken(String token) {
@@ -1,6 +1,7 @@
 package dev.vality.orgmanager.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.orgmanager.security.AccessTokenAuthentication;
 import lombok.RequiredArgsConstructor;
 import org.keycloak.representations.AccessToken;
 import org.springframework.security.core.Authentication;
@@ -20,9 +21,16 @@ public class KeycloakService {
 
     public AccessToken getAccessToken() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof AccessTokenAuthentication accessTokenAuthentication) {
+            return accessTokenAuthentication.getAccessToken();
+        }
         if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
             throw new IllegalStateException("Jwt principal is required");
         }
+        return toAccessToken(jwt);
+    }
+
+    public AccessToken toAccessToken(Jwt jwt) {
         return objectMapper.convertValue(normalizedClaims(jwt.getClaims()), AccessToken.class);
     }
 
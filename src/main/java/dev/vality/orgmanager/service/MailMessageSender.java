@@ -4,8 +4,12 @@ import dev.vality.damsel.message_sender.MailBody;
 import dev.vality.damsel.message_sender.Message;
 import dev.vality.damsel.message_sender.MessageMail;
 import dev.vality.damsel.message_sender.MessageSenderSrv;
+import dev.vality.orgmanager.metrics.OrgManagerMetrics;
+import dev.vality.orgmanager.metrics.Outcome;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -22,8 +26,11 @@ public class MailMessageSender {
     private String mailFrom;
 
     private final MessageSenderSrv.Iface dudoserClient;
+    private final OrgManagerMetrics orgManagerMetrics;
 
-    public void send(String body, String email) {
+    public void send(String body, String email) throws TException {
+        Timer.Sample sample = orgManagerMetrics.start();
+        Outcome outcome = Outcome.ERROR;
         try {
             MessageMail messageMail = new MessageMail();
             messageMail.setMailBody(new MailBody(dashboardUrl + body));
@@ -32,8 +39,9 @@ public class MailMessageSender {
             messageMail.setFromEmail(mailFrom);
             log.info("Try to send message to email: {}", email);
             dudoserClient.send(Message.message_mail(messageMail));
-        } catch (Exception ex) {
-            log.warn("dudoserClient error", ex);
+            outcome = Outcome.SUCCESS;
+        } finally {
+            orgManagerMetrics.stop(sample, OrgManagerMetrics.MAIL_SEND_TIMER, outcome);
         }
     }
 }
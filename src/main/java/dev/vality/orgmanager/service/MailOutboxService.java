@@ -0,0 +1,188 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.orgmanager.config.properties.MailOutboxProperties;
+import dev.vality.orgmanager.entity.MailOutboxEntity;
+import dev.vality.orgmanager.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Transactional outbox for invitation mails: mails are stored together with the invitation
+ * and delivered to dudoser later by {@link #dispatch()}.
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    public static final String OUTBOX_METRIC = "org_manager.mail.outbox";
+    public static final String DELIVERED = "delivered";
+    public static final String RETRY = "retry";
+    public static final String FAILED = "failed";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailMessageSender mailMessageSender;
+    private final MailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+    private final Semaphore deliveries;
+    // created by the first dispatch, instances that only enqueue never start delivery threads
+    private ExecutorService executor;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+                             MailMessageSender mailMessageSender,
+                             MailOutboxProperties properties,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailMessageSender = mailMessageSender;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = virtualThreads;
+        // bounds the concurrency towards dudoser, virtual threads are not pooled
+        this.deliveries = new Semaphore(properties.getConcurrency());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String body, String email) {
+        mailOutboxRepository.save(pendingMail(body, email, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(Map<String, String> bodiesByEmail) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.insertAll(bodiesByEmail.entrySet().stream()
+                .map(bodyByEmail -> pendingMail(bodyByEmail.getValue(), bodyByEmail.getKey(), now))
+                .toList());
+    }
+
+    private MailOutboxEntity pendingMail(String body, String email, LocalDateTime now) {
+        return MailOutboxEntity.builder()
+                .email(email)
+                .body(body)
+                .status(MailOutboxEntity.PENDING)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    /**
+     * Delivers ready mails batch by batch until a batch comes out shorter than the configured size.
+     * Callers must ensure that only one dispatch runs at a time.
+     */
+    public int dispatch() {
+        int batchSize = properties.getBatchSize();
+        int delivered = 0;
+        List<MailOutboxEntity> batch;
+        do {
+            batch = mailOutboxRepository.findReadyForDispatch(LocalDateTime.now(), batchSize);
+            delivered += dispatch(batch);
+        } while (batch.size() == batchSize);
+        return delivered;
+    }
+
+    private int dispatch(List<MailOutboxEntity> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // the network calls run outside of any transaction
+        List<CompletableFuture<Throwable>> results = batch.stream()
+                .map(mail -> CompletableFuture.supplyAsync(() -> deliver(mail), executor()))
+                .toList();
+        List<Long> deliveredIds = new ArrayList<>();
+        List<MailOutboxEntity> failed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutboxEntity mail = batch.get(i);
+            Throwable error = results.get(i).join();
+            if (error == null) {
+                deliveredIds.add(mail.getId());
+            } else {
+                failed.add(scheduleRetry(mail, error));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            mailOutboxRepository.deleteAllByIdInBatch(deliveredIds);
+            mailOutboxRepository.saveAll(failed);
+        });
+        meterRegistry.counter(OUTBOX_METRIC, "outcome", DELIVERED).increment(deliveredIds.size());
+        return deliveredIds.size();
+    }
+
+    private Throwable deliver(MailOutboxEntity mail) {
+        try {
+            deliveries.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+        try {
+            mailMessageSender.send(mail.getBody(), mail.getEmail());
+            return null;
+        } catch (Exception e) {
+            return e;
+        } finally {
+            deliveries.release();
+        }
+    }
+
+    private MailOutboxEntity scheduleRetry(MailOutboxEntity mail, Throwable error) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(String.valueOf(error.getMessage()));
+        if (attempts >= properties.getMaxAttempts()) {
+            log.warn("Give up delivering mail {} to {} after {} attempts", mail.getId(), mail.getEmail(), attempts,
+                    error);
+            mail.setStatus(MailOutboxEntity.FAILED);
+            meterRegistry.counter(OUTBOX_METRIC, "outcome", FAILED).increment();
+        } else {
+            log.info("Unable to deliver mail {} to {}, attempt {}", mail.getId(), mail.getEmail(), attempts, error);
+            mail.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            meterRegistry.counter(OUTBOX_METRIC, "outcome", RETRY).increment();
+        }
+        return mail;
+    }
+
+    Duration backoff(int attempts) {
+        Duration maxBackoff = properties.getMaxBackoff();
+        Duration backoff = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = virtualThreads
+                    ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mail-outbox-", 0).factory())
+                    : Executors.newFixedThreadPool(properties.getConcurrency(),
+                            Thread.ofPlatform().name("mail-outbox-", 0).factory());
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.orgmanager.repository.MemberRepository;
+import dev.vality.orgmanager.service.dto.MembershipCheck;
+import dev.vality.orgmanager.service.dto.MembershipCheckResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MembershipCheckService {
+
+    public static final int MAX_CHECKS = 1000;
+
+    private final MemberRepository memberRepository;
+
+    @Transactional(readOnly = true)
+    public MembershipCheckResult check(List<MembershipCheck> checks) {
+        if (checks.size() > MAX_CHECKS) {
+            throw new IllegalArgumentException("At most " + MAX_CHECKS + " checks are allowed, got " + checks.size());
+        }
+        for (MembershipCheck check : checks) {
+            if (check == null || check.getUserId() == null || check.getOrganizationId() == null) {
+                throw new IllegalArgumentException("Each check needs userId and organizationId");
+            }
+        }
+        log.debug("Check {} memberships", checks.size());
+        BitSet result = memberRepository.checkMemberships(checks);
+        return new MembershipCheckResult(checks.size(), Base64.getEncoder().encodeToString(result.toByteArray()));
+    }
+}
@@ -1,7 +1,6 @@
 package dev.vality.orgmanager.service;
 
 import dev.vality.orgmanager.converter.OrganizationRoleConverter;
-import dev.vality.orgmanager.entity.OrganizationEntity;
 import dev.vality.orgmanager.entity.OrganizationRoleEntity;
 import dev.vality.orgmanager.exception.ResourceNotFoundException;
 import dev.vality.orgmanager.repository.OrganizationRepository;
@@ -14,7 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -36,15 +34,13 @@ public class OrganizationRoleService {
     }
 
     public ResponseEntity<RoleAvailableListResult> list(String orgId) {
-        Optional<OrganizationEntity> entity = organizationRepository.findById(orgId);
-
-        if (entity.isEmpty()) {
+        if (!organizationRepository.existsById(orgId)) {
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .build();
         }
 
-        List<Role> roles = entity.orElseThrow().getRoles()
+        List<Role> roles = organizationRoleRepository.findByOrganizationId(orgId)
                 .stream()
                 .map(organizationRoleConverter::toDomain)
                 .toList();
@@ -4,17 +4,21 @@ import dev.vality.orgmanager.converter.MemberConverter;
 import dev.vality.orgmanager.converter.MemberRoleConverter;
 import dev.vality.orgmanager.converter.OrganizationConverter;
 import dev.vality.orgmanager.entity.*;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
 import dev.vality.orgmanager.exception.AccessDeniedException;
 import dev.vality.orgmanager.exception.LastRoleException;
 import dev.vality.orgmanager.exception.ResourceNotFoundException;
 import dev.vality.orgmanager.repository.MemberContextRepository;
 import dev.vality.orgmanager.repository.MemberRepository;
+import dev.vality.orgmanager.repository.MemberRoleRepository;
 import dev.vality.orgmanager.repository.OrganizationRepository;
+import dev.vality.orgmanager.service.dto.MemberPage;
 import dev.vality.orgmanager.service.dto.MemberWithRoleDto;
 import dev.vality.swag.organizations.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.keycloak.representations.AccessToken;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +29,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Slf4j
 @Service
@@ -33,6 +36,8 @@ import java.util.Set;
 public class OrganizationService {
 
     public static final Integer DEFAULT_ORG_LIMIT = 20;
+    public static final Integer MAX_ORG_LIMIT = 1000;
+    public static final Integer DEFAULT_MEMBER_LIMIT = 100;
 
     private final OrganizationConverter organizationConverter;
     private final OrganizationRepository organizationRepository;
@@ -42,6 +47,8 @@ public class OrganizationService {
     private final MemberContextRepository memberContextRepository;
     private final InvitationService invitationService;
     private final MemberRoleService memberRoleService;
+    private final MemberRoleRepository memberRoleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // TODO [a.romanov]: idempotency
     @Transactional
@@ -52,6 +59,7 @@ public class OrganizationService {
         String keycloakUserId = token.getSubject();
         OrganizationEntity entity = organizationConverter.toEntity(organization, keycloakUserId);
         OrganizationEntity savedEntity = organizationRepository.save(entity);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofMember(savedEntity.getId(), keycloakUserId));
         return organizationConverter.toDomain(savedEntity);
     }
 
@@ -71,47 +79,41 @@ public class OrganizationService {
 
     @Transactional(readOnly = true)
     public Member getOrgMember(String userId, String orgId) {
-        OrganizationEntity organization = findById(orgId);
-        MemberEntity memberEntity = getMember(userId, organization);
-        List<MemberRoleEntity> rolesInOrg = getMemberRolesInOrg(orgId, memberEntity);
+        MemberEntity memberEntity = getMember(userId, orgId);
+        List<MemberRoleEntity> rolesInOrg = getMemberRolesInOrg(orgId, userId);
         return memberConverter.toDomain(memberEntity, rolesInOrg);
     }
 
-    private List<MemberRoleEntity> getMemberRolesInOrg(String orgId, MemberEntity memberEntity) {
-        return memberEntity.getRoles().stream()
-                .filter(memberRole -> isActiveOrgMemberRole(orgId, memberRole))
-                .toList();
-    }
-
-    private boolean isActiveOrgMemberRole(String orgId, MemberRoleEntity memberRole) {
-        return memberRole.getOrganizationId().equals(orgId) && memberRole.isActive();
+    private List<MemberRoleEntity> getMemberRolesInOrg(String orgId, String userId) {
+        return memberRoleRepository.findActiveByMemberIdAndOrganizationId(userId, orgId);
     }
 
-
-    private MemberEntity getMember(String userId, OrganizationEntity organization) {
-        return organization.getMembers().stream()
-                .filter(memberEntity -> memberEntity.getId().equals(userId))
-                .findFirst()
+    private MemberEntity getMember(String userId, String orgId) {
+        // a membership row can only exist for an existing organization
+        if (!memberRepository.existsMembership(orgId, userId)) {
+            throw new ResourceNotFoundException();
+        }
+        return memberRepository.findById(userId)
                 .orElseThrow(ResourceNotFoundException::new);
     }
 
     @Transactional
     public MemberRole assignMemberRole(String orgId, String userId, MemberRole memberRole) {
-        OrganizationEntity organization = findById(orgId);
-        MemberEntity memberEntity = getMember(userId, organization);
+        MemberEntity memberEntity = getMember(userId, orgId);
         MemberRoleEntity memberRoleEntity = memberRoleConverter.toEntity(memberRole, orgId);
         memberEntity.getRoles().add(memberRoleEntity);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofMember(orgId, userId));
         return memberRoleConverter.toDomain(memberRoleEntity);
     }
 
     @Transactional
     public void expelOrgMember(String orgId, String userId) {
-        OrganizationEntity organization = findById(orgId);
-        MemberEntity member = getMember(userId, organization);
+        MemberEntity member = getMember(userId, orgId);
         deactivateOrgMemberRoles(orgId, member);
         member.getRoles()
                 .removeIf(memberRoleEntity -> memberRoleEntity.getOrganizationId().equals(orgId));
-        organization.getMembers().remove(member);
+        memberRepository.deleteMembership(orgId, userId);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofMember(orgId, userId));
     }
 
     private void deactivateOrgMemberRoles(String orgId, MemberEntity member) {
@@ -123,14 +125,14 @@ public class OrganizationService {
 
     @Transactional
     public void removeMemberRole(String orgId, String userId, String memberRoleId) {
-        OrganizationEntity organization = findById(orgId);
-        MemberEntity member = getMember(userId, organization);
-        if (getMemberRolesInOrg(orgId, member).size() == 1) {
+        MemberEntity member = getMember(userId, orgId);
+        if (getMemberRolesInOrg(orgId, userId).size() == 1) {
             throw new LastRoleException();
         }
         MemberRoleEntity roleToRemove = memberRoleService.findEntityById(memberRoleId);
         roleToRemove.setActive(Boolean.FALSE);
         member.getRoles().remove(roleToRemove);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofMember(orgId, userId));
     }
 
     @Transactional(readOnly = true)
@@ -144,12 +146,32 @@ public class OrganizationService {
                 .result(members);
     }
 
+    @Transactional(readOnly = true)
+    public MemberPage listMembers(String orgId, Integer limit, String continuationToken) {
+        if (!organizationRepository.existsById(orgId)) {
+            throw new ResourceNotFoundException();
+        }
+        if (limit == null || limit <= 0) {
+            limit = DEFAULT_MEMBER_LIMIT;
+        }
+        String afterMemberId = StringUtils.hasLength(continuationToken) ? continuationToken : "";
+        List<MemberWithRoleDto> orgMemberPage = memberRepository.getOrgMemberPage(orgId, afterMemberId, limit + 1);
+        List<Member> members = memberConverter.toDomain(orgMemberPage);
+        if (members.size() <= limit) {
+            return new MemberPage(members, null);
+        }
+        List<Member> limitMembers = members.subList(0, limit);
+        return new MemberPage(limitMembers, limitMembers.get(limit - 1).getId());
+    }
+
     @Transactional(readOnly = true)
     public OrganizationSearchResult findAllOrganizations(String userId, Integer limit, String continuationId) {
-        if (limit == null || limit == 0) {
+        if (limit == null || limit <= 0) {
             limit = DEFAULT_ORG_LIMIT;
         }
-        List<OrganizationEntity> entities = getOrganizationsByUser(continuationId, userId);
+        limit = Math.min(limit, MAX_ORG_LIMIT);
+        // one extra row tells whether there is a next page
+        List<OrganizationEntity> entities = getOrganizationsByUser(continuationId, userId, limit + 1);
         List<OrganizationEntity> limitEntities = limitOrganizations(limit, entities);
         String continuationToken = getContinuationId(entities, limitEntities);
         List<Organization> organizations = limitEntities
@@ -161,11 +183,11 @@ public class OrganizationService {
                 .result(organizations);
     }
 
-    private List<OrganizationEntity> getOrganizationsByUser(String continuationId, String userId) {
+    private List<OrganizationEntity> getOrganizationsByUser(String continuationId, String userId, int limit) {
         if (StringUtils.hasLength(continuationId)) {
-            return organizationRepository.findAllByMember(userId, continuationId);
+            return organizationRepository.findAllByMember(userId, continuationId, limit);
         }
-        return organizationRepository.findAllByMember(userId);
+        return organizationRepository.findAllByMember(userId, limit);
     }
 
     private List<OrganizationEntity> limitOrganizations(Integer limit,
@@ -187,22 +209,16 @@ public class OrganizationService {
 
     @Transactional
     public ResponseEntity<Void> cancelOrgMembership(String orgId, String userId, String userEmail) {
-        Optional<OrganizationEntity> organizationEntityOptional = organizationRepository.findById(orgId);
-
-        if (organizationEntityOptional.isEmpty()) {
+        if (!organizationRepository.existsById(orgId)) {
             return ResponseEntity.notFound().build();
         }
 
-        Optional<MemberEntity> memberEntityOptional = memberRepository.findById(userId);
-
-        if (memberEntityOptional.isEmpty()) {
+        if (!memberRepository.existsById(userId)) {
             return ResponseEntity.notFound().build();
         }
 
-        organizationEntityOptional.ifPresent(organizationEntity -> {
-            organizationEntity.getMembers()
-                    .removeIf(memberEntity -> memberEntity.getId().equals(memberEntityOptional.get().getId()));
-        });
+        memberRepository.deleteMembership(orgId, userId);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofMember(orgId, userId));
 
         return ResponseEntity.ok().build();
     }
@@ -240,8 +256,11 @@ public class OrganizationService {
         OrganizationEntity organizationEntity = findById(invitationEntity.getOrganizationId());
         MemberEntity memberEntity = findOrCreateMember(userId, userEmail);
         memberEntity.getRoles().addAll(invitationEntity.getInviteeRoles());
-        organizationEntity.getMembers().add(memberEntity);
+        // join through the member side, so that the other members of the organization are not loaded
+        memberEntity.getOrganizations().add(organizationEntity);
+        memberEntity = memberRepository.save(memberEntity);
         acceptInvitation(userId, invitationEntity);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofMember(organizationEntity.getId(), userId));
         OrganizationMembership organizationMembership = new OrganizationMembership();
         organizationMembership
                 .setMember(memberConverter.toDomain(memberEntity, new ArrayList<>(invitationEntity.getInviteeRoles())));
@@ -312,9 +331,4 @@ public class OrganizationService {
                 .orElseThrow(ResourceNotFoundException::new);
     }
 
-    @Transactional(readOnly = true)
-    public Set<OrganizationEntity> findByOwner(String ownerId) {
-        return organizationRepository.findAllByOwner(ownerId);
-    }
-
 }
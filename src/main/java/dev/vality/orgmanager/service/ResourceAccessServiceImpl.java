@@ -6,7 +6,6 @@ import dev.vality.orgmanager.service.dto.BouncerContextDto;
 import dev.vality.orgmanager.service.dto.InvitationDto;
 import dev.vality.orgmanager.service.dto.ResourceDto;
 import dev.vality.orgmanager.service.dto.RoleDto;
-import dev.vality.orgmanager.util.StackUtils;
 import dev.vality.swag.organizations.model.MemberRole;
 import dev.vality.swag.organizations.model.MemberRoleScope;
 import lombok.RequiredArgsConstructor;
@@ -24,17 +23,18 @@ public class ResourceAccessServiceImpl implements ResourceAccessService {
     private final BouncerService bouncerService;
     private final OrganizationService organizationService;
     private final MemberRoleService memberRoleService;
+    private final CallerContext callerContext;
 
     @Override
     public void checkRights() {
         if (isCheckAccessDisabled()) {
             return;
         }
-        String callerMethodName = StackUtils.getCallerMethodName();
+        String operationId = getOperationId();
         BouncerContextDto bouncerContext = BouncerContextDto.builder()
-                .operationName(callerMethodName)
+                .operationName(operationId)
                 .build();
-        callBouncer(callerMethodName, bouncerContext);
+        callBouncer(operationId, bouncerContext);
     }
 
     @Override
@@ -42,8 +42,8 @@ public class ResourceAccessServiceImpl implements ResourceAccessService {
         if (isCheckAccessDisabled()) {
             return;
         }
-        String callerMethodName = StackUtils.getCallerMethodName();
-        BouncerContextDto bouncerContext = buildBouncerContextDto(resource, callerMethodName);
+        String operationId = getOperationId();
+        BouncerContextDto bouncerContext = buildBouncerContextDto(resource, operationId);
         if (Objects.nonNull(resource.getInvitationToken())) {
             log.info("Get organization by invitation token");
             String orgId = organizationService.getOrgIdByInvitationToken(resource.getInvitationToken());
@@ -59,10 +59,10 @@ public class ResourceAccessServiceImpl implements ResourceAccessService {
                     .roleId(memberRole.getRoleId())
                     .build());
         }
-        callBouncer(callerMethodName, bouncerContext);
+        callBouncer(operationId, bouncerContext);
     }
 
-    private BouncerContextDto buildBouncerContextDto(ResourceDto resource, String callerMethodName) {
+    private BouncerContextDto buildBouncerContextDto(ResourceDto resource, String operationId) {
         RoleDto role = RoleDto.builder()
                 .roleId(resource.getRoleId())
                 .scopeResourceId(resource.getScopeResourceId())
@@ -72,7 +72,7 @@ public class ResourceAccessServiceImpl implements ResourceAccessService {
                 .email(resource.getEmail())
                 .build();
         return BouncerContextDto.builder()
-                .operationName(callerMethodName)
+                .operationName(operationId)
                 .organizationId(resource.getOrgId())
                 .memberId(resource.getMemberId())
                 .invitation(invitation)
@@ -80,15 +80,23 @@ public class ResourceAccessServiceImpl implements ResourceAccessService {
                 .build();
     }
 
+    private String getOperationId() {
+        String operationId = callerContext.getOperationId();
+        if (Objects.isNull(operationId)) {
+            throw new IllegalStateException("Operation id is not resolved for the current request");
+        }
+        return operationId;
+    }
+
     private boolean isCheckAccessDisabled() {
         return Boolean.FALSE.equals(accessProperties.getEnabled());
     }
 
-    private void callBouncer(String callerMethodName, BouncerContextDto bouncerContext) {
-        log.info("Check the user's rights to perform the operation {}", callerMethodName);
+    private void callBouncer(String operationId, BouncerContextDto bouncerContext) {
+        log.info("Check the user's rights to perform the operation {}", operationId);
         if (!bouncerService.havePrivileges(bouncerContext)) {
             throw new AccessDeniedException(
-                    String.format("No rights to perform %s", callerMethodName));
+                    String.format("No rights to perform %s", operationId));
         }
     }
 
@@ -1,40 +1,81 @@
 package dev.vality.orgmanager.service;
 
 import dev.vality.orgmanager.entity.MemberEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
 import dev.vality.orgmanager.entity.OrganizationEntity;
+import dev.vality.orgmanager.repository.MemberRepository;
+import dev.vality.orgmanager.service.dto.UserContextRowDto;
 import dev.vality.orgmanager.service.model.UserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
-    private final MemberService memberService;
-    private final OrganizationService organizationService;
+    private final MemberRepository memberRepository;
 
+    /**
+     * Builds the user from a single flat query over the member's and owned organizations and the member's
+     * roles in them. Entities in the result are detached and carry only what the authorization context needs.
+     */
     @Transactional(readOnly = true)
     @Override
     public UserInfo findById(String id) {
         log.info("Find user with id {}", id);
-        Optional<MemberEntity> user = memberService.findById(id);
-        Set<OrganizationEntity> memberOrganizations = user
-                .map(MemberEntity::getOrganizations)
-                .orElseGet(HashSet::new);
-        Set<OrganizationEntity> ownedOrganizations = organizationService.findByOwner(id);
-        return new UserInfo(
-                user.orElse(null),
-                Stream.concat(memberOrganizations.stream(), ownedOrganizations.stream())
-                        .collect(Collectors.toSet())
-        );
+        List<UserContextRowDto> rows = memberRepository.findUserContext(id);
+        UserContextRowDto first = rows.getFirst();
+        boolean hasRoles = Boolean.TRUE.equals(first.getHasRoles());
+        Map<String, OrganizationEntity> organizations = new HashMap<>();
+        Map<String, List<MemberRoleEntity>> rolesByOrganization = new HashMap<>();
+        Set<MemberRoleEntity> roles = new HashSet<>();
+        for (UserContextRowDto row : rows) {
+            if (row.getOrganizationId() == null) {
+                continue;
+            }
+            organizations.computeIfAbsent(row.getOrganizationId(), orgId -> OrganizationEntity.builder()
+                    .id(orgId)
+                    .owner(row.getOwner())
+                    .party(row.getParty())
+                    .build());
+            if (!hasRoles) {
+                continue;
+            }
+            List<MemberRoleEntity> organizationRoles =
+                    rolesByOrganization.computeIfAbsent(row.getOrganizationId(), orgId -> new ArrayList<>(2));
+            if (row.getMemberRoleId() != null) {
+                MemberRoleEntity role = toMemberRole(row);
+                organizationRoles.add(role);
+                roles.add(role);
+            }
+        }
+        MemberEntity member = first.getMemberId() == null ? null : MemberEntity.builder()
+                .id(first.getMemberId())
+                .email(first.getEmail())
+                .roles(roles)
+                .organizations(new HashSet<>())
+                .build();
+        return new UserInfo(member, new HashSet<>(organizations.values()), rolesByOrganization);
+    }
+
+    private MemberRoleEntity toMemberRole(UserContextRowDto row) {
+        return MemberRoleEntity.builder()
+                .id(row.getMemberRoleId())
+                .organizationId(row.getOrganizationId())
+                .roleId(row.getRoleId())
+                .scopeId(row.getScopeId())
+                .resourceId(row.getResourceId())
+                .active(Boolean.TRUE.equals(row.getActive()))
+                .build();
     }
 }
@@ -0,0 +1,24 @@
+package dev.vality.orgmanager.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.vality.swag.organizations.model.Invitation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InvitationBatchResult {
+
+    private String email;
+    private Invitation invitation;
+    private String error;
+
+    public static InvitationBatchResult created(String email, Invitation invitation) {
+        return new InvitationBatchResult(email, invitation, null);
+    }
+
+    public static InvitationBatchResult rejected(String email, String error) {
+        return new InvitationBatchResult(email, null, error);
+    }
+}
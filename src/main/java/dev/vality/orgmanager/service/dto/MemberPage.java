@@ -0,0 +1,17 @@
+package dev.vality.orgmanager.service.dto;
+
+import dev.vality.swag.organizations.model.Member;
+import jakarta.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class MemberPage {
+
+    private List<Member> members;
+    @Nullable
+    private String continuationToken;
+}
@@ -0,0 +1,19 @@
+package dev.vality.orgmanager.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Is the user a member of the organization, and when a role is given, does the member hold it there.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipCheck {
+
+    private String userId;
+    private String organizationId;
+    private String roleId;
+
+}
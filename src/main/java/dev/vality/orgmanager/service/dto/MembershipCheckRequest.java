@@ -0,0 +1,16 @@
+package dev.vality.orgmanager.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipCheckRequest {
+
+    private List<MembershipCheck> checks;
+
+}
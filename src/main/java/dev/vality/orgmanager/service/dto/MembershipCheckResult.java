@@ -0,0 +1,19 @@
+package dev.vality.orgmanager.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bit {@code i} of the base64 bitmap answers check {@code i}: byte {@code i / 8}, bit {@code i % 8} counting from
+ * the least significant one. Trailing zero bytes are omitted, so {@code size} gives the number of checks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipCheckResult {
+
+    private int size;
+    private String bitmap;
+
+}
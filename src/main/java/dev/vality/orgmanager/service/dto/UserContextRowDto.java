@@ -0,0 +1,27 @@
+package dev.vality.orgmanager.service.dto;
+
+public interface UserContextRowDto {
+
+    String getMemberId();
+
+    String getEmail();
+
+    Boolean getHasRoles();
+
+    String getOrganizationId();
+
+    String getOwner();
+
+    String getParty();
+
+    String getMemberRoleId();
+
+    String getRoleId();
+
+    String getScopeId();
+
+    String getResourceId();
+
+    Boolean getActive();
+
+}
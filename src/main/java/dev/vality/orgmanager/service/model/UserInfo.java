@@ -1,12 +1,15 @@
 package dev.vality.orgmanager.service.model;
 
 import dev.vality.orgmanager.entity.MemberEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
 import dev.vality.orgmanager.entity.OrganizationEntity;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import jakarta.annotation.Nullable;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Data
@@ -15,4 +18,13 @@ public class UserInfo {
     @Nullable
     private MemberEntity member;
     private Set<OrganizationEntity> organizations;
+    /**
+     * Member roles keyed by organization id, grouped once at load time; null if not pre-grouped.
+     */
+    @Nullable
+    private Map<String, List<MemberRoleEntity>> rolesByOrganization;
+
+    public UserInfo(@Nullable MemberEntity member, Set<OrganizationEntity> organizations) {
+        this(member, organizations, null);
+    }
 }
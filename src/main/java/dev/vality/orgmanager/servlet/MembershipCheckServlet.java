@@ -0,0 +1,46 @@
+package dev.vality.orgmanager.servlet;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.orgmanager.service.MembershipCheckService;
+import dev.vality.orgmanager.service.dto.MembershipCheckRequest;
+import dev.vality.orgmanager.service.dto.MembershipCheckResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Batched "is user X a member of org Y (with role R)" answers for services that would otherwise fetch and
+ * decode a whole user context fragment from /auth-context per user.
+ */
+@WebServlet("/auth-context/membership")
+@Slf4j
+@RequiredArgsConstructor
+public class MembershipCheckServlet extends HttpServlet {
+
+    private final MembershipCheckService membershipCheckService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        MembershipCheckResult result;
+        try {
+            MembershipCheckRequest request = objectMapper.readValue(req.getInputStream(), MembershipCheckRequest.class);
+            result = membershipCheckService.check(request.getChecks() == null ? List.of() : request.getChecks());
+        } catch (JacksonException | IllegalArgumentException e) {
+            log.warn("Invalid membership check request: {}", e.getMessage());
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType("application/json");
+        objectMapper.writeValue(resp.getOutputStream(), result);
+    }
+}
@@ -0,0 +1,27 @@
+package dev.vality.orgmanager.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TIOStreamTransport;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Binary Thrift serialization into a presized buffer, so that context fragments are not copied through
+ * the many small growth steps of a default {@link org.apache.thrift.TSerializer} buffer. The buffer is
+ * allocated per call: nothing is pinned to threads, which may be virtual and short-lived.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ThriftSerializerUtils {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+    public static byte[] serialize(TBase<?, ?> base) throws TException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        base.write(new TBinaryProtocol(new TIOStreamTransport(buffer)));
+        return buffer.toByteArray();
+    }
+}
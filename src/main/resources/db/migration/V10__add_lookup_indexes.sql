@@ -0,0 +1,24 @@
+-- invitation
+CREATE UNIQUE INDEX IF NOT EXISTS invitation_accept_token_idx
+    ON org_manager.invitation (accept_token);
+CREATE INDEX IF NOT EXISTS invitation_organization_id_status_idx
+    ON org_manager.invitation (organization_id, status);
+CREATE INDEX IF NOT EXISTS invitation_pending_expires_at_idx
+    ON org_manager.invitation (expires_at)
+    WHERE status = 'Pending';
+
+-- member_role
+CREATE INDEX IF NOT EXISTS member_role_organization_id_idx
+    ON org_manager.member_role (organization_id);
+
+-- organization: owner lookups and owned organizations page ordered by id
+CREATE INDEX IF NOT EXISTS organization_owner_id_idx
+    ON org_manager.organization (owner, id);
+
+-- member_to_organization: organization lookups and member keyset pagination
+CREATE INDEX IF NOT EXISTS member_to_organization_organization_id_member_id_idx
+    ON org_manager.member_to_organization (organization_id, member_id);
+
+-- member_context
+CREATE INDEX IF NOT EXISTS member_context_member_id_idx
+    ON org_manager.member_context (member_id);
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS org_manager.mail_outbox
+(
+    id              BIGSERIAL                   NOT NULL,
+    email           CHARACTER VARYING           NOT NULL,
+    body            CHARACTER VARYING           NOT NULL,
+    status          CHARACTER VARYING           NOT NULL,
+    attempts        INTEGER                     NOT NULL DEFAULT 0,
+    created_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_error      CHARACTER VARYING,
+    CONSTRAINT mail_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS mail_outbox_pending_next_attempt_at_idx
+    ON org_manager.mail_outbox (next_attempt_at)
+    WHERE status = 'Pending';
@@ -0,0 +1,150 @@
+package dev.vality.orgmanager.cache;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.config.properties.AuthContextCacheProperties;
+import dev.vality.orgmanager.config.properties.AuthContextSingleFlightProperties;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthContextCacheTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private AuthContextCacheProperties properties;
+    private AuthContextCache authContextCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AuthContextCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtl(Duration.ofMinutes(1));
+        properties.setMaxSize(100L);
+        authContextCache = new AuthContextCache(properties, singleFlight(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void organizationChangeInvalidatesOnlyItsMembers() throws TException {
+        String orgId = TestObjectFactory.randomString();
+        AuthContextKey member = new AuthContextKey(TestObjectFactory.randomString(), null);
+        AuthContextKey outsider = new AuthContextKey(TestObjectFactory.randomString(), null);
+        authContextCache.get(member, () -> entry(orgId));
+        authContextCache.get(outsider, () -> entry(TestObjectFactory.randomString()));
+
+        authContextCache.onMembershipChanged(MembershipChangedEvent.ofOrganization(orgId));
+
+        assertEquals(1, authContextCache.size());
+    }
+
+    @Test
+    void memberChangeInvalidatesAllEntriesOfUser() throws TException {
+        String userId = TestObjectFactory.randomString();
+        authContextCache.get(new AuthContextKey(userId, "first@vality.dev"), () -> entry());
+        authContextCache.get(new AuthContextKey(userId, "second@vality.dev"), () -> entry());
+        authContextCache.get(new AuthContextKey(TestObjectFactory.randomString(), null), () -> entry());
+
+        authContextCache.onMembershipChanged(MembershipChangedEvent.ofMember(TestObjectFactory.randomString(), userId));
+
+        assertEquals(1, authContextCache.size());
+    }
+
+    @Test
+    void entryLoadedDuringInvalidationIsNotCached() throws TException {
+        AuthContextKey key = new AuthContextKey(TestObjectFactory.randomString(), null);
+
+        authContextCache.get(key, () -> {
+            authContextCache.onMembershipChanged(MembershipChangedEvent.ofMember(null, key.getUserId()));
+            return entry();
+        });
+
+        assertEquals(0, authContextCache.size());
+    }
+
+    @Test
+    void loadJoinedDuringInvalidationIsNotCached() throws Exception {
+        AuthContextKey key = new AuthContextKey(TestObjectFactory.randomString(), null);
+        AtomicReference<AuthContextCache> cache = new AtomicReference<>();
+        // a caller arrives while the invalidation is in progress and joins the load started before the change
+        AuthContextSingleFlight singleFlight = new AuthContextSingleFlight(singleFlightProperties(), meterRegistry) {
+            @Override
+            public void detach(MembershipChangedEvent event) {
+                executor.submit(() -> cache.get().get(key, () -> execute(key, () -> {
+                    throw new IllegalStateException("Must join the in-flight load");
+                })));
+                while (coalesced() < 1) {
+                    Thread.onSpinWait();
+                }
+                super.detach(event);
+            }
+        };
+        cache.set(new AuthContextCache(properties, singleFlight, meterRegistry));
+        Future<AuthContextEntry> stale = executor.submit(() -> cache.get().get(key,
+                () -> singleFlight.execute(key, () -> {
+                    loadStarted.countDown();
+                    awaitRelease();
+                    return new AuthContextEntry(new byte[] {0}, Set.of());
+                })));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+        cache.get().onMembershipChanged(MembershipChangedEvent.ofMember(null, key.getUserId()));
+        AuthContextEntry fresh = cache.get().get(key,
+                () -> singleFlight.execute(key, () -> new AuthContextEntry(new byte[] {1}, Set.of())));
+        releaseLoad.countDown();
+
+        assertEquals(0, stale.get(5, TimeUnit.SECONDS).getContent()[0]);
+        assertEquals(1, fresh.getContent()[0]);
+        assertEquals(1, cache.get().get(key, () -> {
+            throw new IllegalStateException("Must be cached");
+        }).getContent()[0]);
+    }
+
+    private void awaitRelease() {
+        try {
+            assertTrue(releaseLoad.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AuthContextSingleFlight singleFlight() {
+        return new AuthContextSingleFlight(singleFlightProperties(), meterRegistry);
+    }
+
+    private static AuthContextSingleFlightProperties singleFlightProperties() {
+        AuthContextSingleFlightProperties singleFlightProperties = new AuthContextSingleFlightProperties();
+        singleFlightProperties.setEnabled(true);
+        return singleFlightProperties;
+    }
+
+    private double coalesced() {
+        return meterRegistry.counter(AuthContextSingleFlight.SINGLE_FLIGHT_METRIC, "role", "coalesced").count();
+    }
+
+    private static AuthContextEntry entry(String... organizationIds) {
+        return new AuthContextEntry(new byte[] {1}, Set.of(organizationIds));
+    }
+}
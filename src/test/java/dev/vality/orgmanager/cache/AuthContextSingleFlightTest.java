@@ -0,0 +1,169 @@
+package dev.vality.orgmanager.cache;
+
+import dev.vality.orgmanagement.UserNotFound;
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.config.properties.AuthContextSingleFlightProperties;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthContextSingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private AuthContextSingleFlightProperties properties;
+    private AuthContextSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AuthContextSingleFlightProperties();
+        properties.setEnabled(true);
+        singleFlight = new AuthContextSingleFlight(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLookupsShareOneLoad() throws Exception {
+        AuthContextKey key = new AuthContextKey(TestObjectFactory.randomString(), null);
+        AuthContextEntry entry = new AuthContextEntry(new byte[] {1}, Set.of());
+
+        List<Future<AuthContextEntry>> results = startCallers(key, () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            awaitRelease();
+            return entry;
+        });
+        releaseLoad.countDown();
+
+        for (Future<AuthContextEntry> result : results) {
+            assertSame(entry, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, counter("leader"));
+        assertEquals(CALLERS - 1.0, counter("coalesced"));
+    }
+
+    @Test
+    void loadFailureIsSharedWithWaitingCallers() throws Exception {
+        AuthContextKey key = new AuthContextKey(TestObjectFactory.randomString(), null);
+
+        List<Future<AuthContextEntry>> results = startCallers(key, () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            awaitRelease();
+            throw new UserNotFound();
+        });
+        releaseLoad.countDown();
+
+        for (Future<AuthContextEntry> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(UserNotFound.class, e.getCause());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void completedLoadIsNotReused() throws Exception {
+        AuthContextKey key = new AuthContextKey(TestObjectFactory.randomString(), null);
+
+        singleFlight.execute(key, () -> new AuthContextEntry(new byte[] {loads.incrementAndGet()}, Set.of()));
+        singleFlight.execute(key, () -> new AuthContextEntry(new byte[] {loads.incrementAndGet()}, Set.of()));
+
+        assertEquals(2, loads.get());
+        assertEquals(0.0, counter("coalesced"));
+    }
+
+    @Test
+    void membershipChangeDetachesInFlightLoad() throws Exception {
+        String userId = TestObjectFactory.randomString();
+        AuthContextKey key = new AuthContextKey(userId, null);
+        Future<AuthContextEntry> stale = executor.submit(() -> singleFlight.execute(key, () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            awaitRelease();
+            return new AuthContextEntry(new byte[] {0}, Set.of());
+        }));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+        singleFlight.detach(MembershipChangedEvent.ofMember(TestObjectFactory.randomString(), userId));
+        AuthContextEntry fresh = singleFlight.execute(key, () -> {
+            loads.incrementAndGet();
+            return new AuthContextEntry(new byte[] {1}, Set.of());
+        });
+        releaseLoad.countDown();
+
+        assertEquals(1, fresh.getContent()[0]);
+        assertEquals(0, stale.get(5, TimeUnit.SECONDS).getContent()[0]);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void disabledSingleFlightLoadsEveryTime() throws Exception {
+        properties.setEnabled(false);
+        AuthContextKey key = new AuthContextKey(TestObjectFactory.randomString(), null);
+
+        for (int i = 0; i < CALLERS; i++) {
+            singleFlight.execute(key, () -> new AuthContextEntry(new byte[] {loads.incrementAndGet()}, Set.of()));
+        }
+
+        assertEquals(CALLERS, loads.get());
+        assertEquals(0.0, counter("leader"));
+    }
+
+    private List<Future<AuthContextEntry>> startCallers(AuthContextKey key, AuthContextCache.EntryLoader loader)
+            throws InterruptedException {
+        List<Future<AuthContextEntry>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(key, loader)));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(key, loader)));
+        }
+        // followers block on the in-flight load until it is released
+        while (counter("coalesced") < CALLERS - 1) {
+            Thread.onSpinWait();
+        }
+        return results;
+    }
+
+    private void awaitRelease() {
+        try {
+            assertTrue(releaseLoad.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double counter(String role) {
+        return meterRegistry.counter(AuthContextSingleFlight.SINGLE_FLIGHT_METRIC, "role", role).count();
+    }
+}
@@ -0,0 +1,102 @@
+package dev.vality.orgmanager.cache;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.config.properties.DecisionCacheProperties;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
+import dev.vality.orgmanager.service.dto.BouncerContextDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.keycloak.representations.AccessToken;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BouncerDecisionCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BouncerDecisionCache decisionCache;
+
+    @BeforeEach
+    void setUp() {
+        DecisionCacheProperties properties = new DecisionCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtl(Duration.ofMinutes(1));
+        properties.setMaxSize(100L);
+        meterRegistry = new SimpleMeterRegistry();
+        decisionCache = new BouncerDecisionCache(properties, meterRegistry);
+    }
+
+    @Test
+    void sameNormalizedContextIsJudgedOnce() {
+        AccessToken token = TestObjectFactory.testToken();
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        AtomicInteger judgements = new AtomicInteger();
+
+        decisionCache.get(key(token, bouncerContext), () -> judgements.incrementAndGet() > 0);
+        decisionCache.get(key(token, copyOf(bouncerContext)), () -> judgements.incrementAndGet() > 0);
+
+        assertEquals(1, judgements.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", BouncerDecisionCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    void memberChangeInvalidatesDecisionsOfSubject() {
+        AccessToken token = TestObjectFactory.testToken();
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        AtomicInteger judgements = new AtomicInteger();
+        decisionCache.get(key(token, bouncerContext), () -> judgements.incrementAndGet() > 0);
+
+        decisionCache.onMembershipChanged(
+                MembershipChangedEvent.ofMember(TestObjectFactory.randomString(), token.getSubject()));
+        decisionCache.get(key(token, bouncerContext), () -> judgements.incrementAndGet() > 0);
+
+        assertEquals(2, judgements.get());
+    }
+
+    @Test
+    void organizationChangeKeepsDecisionsOfOtherOrganizations() {
+        AccessToken token = TestObjectFactory.testToken();
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        BouncerContextDto anotherOrgContext = TestObjectFactory.testBouncerContextDto();
+        decisionCache.get(key(token, bouncerContext), () -> true);
+        decisionCache.get(key(token, anotherOrgContext), () -> true);
+
+        decisionCache.onMembershipChanged(MembershipChangedEvent.ofOrganization(bouncerContext.getOrganizationId()));
+
+        assertEquals(1, decisionCache.size());
+        assertTrue(decisionCache.get(key(token, anotherOrgContext), () -> false));
+    }
+
+    @Test
+    void deniedDecisionIsNotCached() {
+        AccessToken token = TestObjectFactory.testToken();
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+
+        assertFalse(decisionCache.get(key(token, bouncerContext), () -> false));
+
+        assertEquals(0, decisionCache.size());
+        assertTrue(decisionCache.get(key(token, bouncerContext), () -> true));
+    }
+
+    private static BouncerDecisionKey key(AccessToken token, BouncerContextDto bouncerContext) {
+        return BouncerDecisionKey.of("ruleSet", token, bouncerContext);
+    }
+
+    private static BouncerContextDto copyOf(BouncerContextDto bouncerContext) {
+        return BouncerContextDto.builder()
+                .operationName(bouncerContext.getOperationName())
+                .organizationId(bouncerContext.getOrganizationId())
+                .memberId(bouncerContext.getMemberId())
+                .role(bouncerContext.getRole())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package dev.vality.orgmanager.config;
+
+import dev.vality.orgmanager.config.properties.HttpClientPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledHttpClientFactoryTest {
+
+    @Test
+    void shouldPublishPoolMetricsPerClient() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HttpClientPoolProperties properties = new HttpClientPoolProperties();
+        properties.setMaxTotal(50);
+        properties.setMaxPerRoute(25);
+        properties.setConnectTimeout(Duration.ofSeconds(1));
+        properties.setConnectionRequestTimeout(Duration.ofSeconds(1));
+        properties.setIdleTimeout(Duration.ofSeconds(30));
+        properties.setTimeToLive(Duration.ofMinutes(5));
+        properties.setValidateAfterInactivity(Duration.ofSeconds(2));
+        properties.setTcpKeepAlive(true);
+
+        try (CloseableHttpClient ignored = new PooledHttpClientFactory(meterRegistry)
+                .create("bouncer", properties, 10_000)) {
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", "bouncer")
+                    .gauge()
+                    .value())
+                    .isEqualTo(50);
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending")
+                    .tag("httpclient", "bouncer")
+                    .gauge()
+                    .value())
+                    .isZero();
+        }
+    }
+}
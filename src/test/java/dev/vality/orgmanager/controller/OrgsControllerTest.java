@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -209,6 +210,31 @@ public class OrgsControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$.acceptToken").doesNotExist());
     }
 
+    @Test
+    void createInvitationsBatchTest() throws Exception {
+        OrganizationEntity organizationEntity = TestData.buildOrganization(ORGANIZATION_ID, MEMBER_ID);
+        organizationRepository.save(organizationEntity);
+        InvitationRequest first = TestData.buildInvitationRequest();
+        InvitationRequest second = TestData.buildInvitationRequest();
+        second.getInvitee().getContact().setEmail("secondEmail@mail.ru");
+        InvitationRequest repeated = TestData.buildInvitationRequest();
+        String body = objectMapper.writeValueAsString(List.of(first, second, repeated));
+
+        mockMvc.perform(post(String.format("/orgs/%s/invitations/batch", ORGANIZATION_ID))
+                .contentType("application/json")
+                .content(body)
+                .header("Authorization", "Bearer " + generateAdminJwt())
+                .header("X-Request-ID", "testRequestId"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].invitation.status", is("Pending")))
+                .andExpect(jsonPath("$[1].invitation.status", is("Pending")))
+                .andExpect(jsonPath("$[2].invitation").doesNotExist())
+                .andExpect(jsonPath("$[2].error", notNullValue()));
+
+        assertThat(invitationRepository.findByOrganizationId(ORGANIZATION_ID), hasSize(2));
+    }
+
     @Test
     void listOrgMembersTest() throws Exception {
         MemberEntity memberEntity = TestObjectFactory.testMemberEntity(TestObjectFactory.randomString());
@@ -226,4 +252,36 @@ public class OrgsControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$.result", anything()));
     }
 
+    @Test
+    void listOrgMembersPageTest() throws Exception {
+        OrganizationEntity organizationEntity = TestObjectFactory.buildOrganization();
+        List<MemberEntity> members = new ArrayList<>();
+        for (String memberId : List.of("member-a", "member-b", "member-c")) {
+            MemberRoleEntity memberRole =
+                    TestObjectFactory.buildMemberRole("Administrator", organizationEntity.getId());
+            memberRoleRepository.save(memberRole);
+            MemberEntity memberEntity = TestObjectFactory.testMemberEntity(memberId);
+            memberEntity.setRoles(Set.of(memberRole));
+            members.add(memberRepository.save(memberEntity));
+        }
+        organizationEntity.setMembers(new HashSet<>(members));
+        organizationRepository.save(organizationEntity);
+
+        mockMvc.perform(get(String.format("/orgs/%s/members-page", organizationEntity.getId()))
+                .param("limit", "2")
+                .header("Authorization", "Bearer " + generateAdminJwt())
+                .header("X-Request-ID", "testRequestId"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members", hasSize(2)))
+                .andExpect(jsonPath("$.continuationToken", is("member-b")));
+        mockMvc.perform(get(String.format("/orgs/%s/members-page", organizationEntity.getId()))
+                .param("limit", "2")
+                .param("continuationToken", "member-b")
+                .header("Authorization", "Bearer " + generateAdminJwt())
+                .header("X-Request-ID", "testRequestId"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members", hasSize(1)))
+                .andExpect(jsonPath("$.members[0].id", is("member-c")))
+                .andExpect(jsonPath("$.continuationToken").doesNotExist());
+    }
 }
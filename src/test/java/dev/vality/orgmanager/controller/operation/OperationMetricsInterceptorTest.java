@@ -0,0 +1,79 @@
+package dev.vality.orgmanager.controller.operation;
+
+import dev.vality.orgmanager.controller.OrgsController;
+import dev.vality.orgmanager.metrics.OrgManagerMetrics;
+import dev.vality.orgmanager.metrics.OrgSizeBuckets;
+import dev.vality.orgmanager.metrics.Outcome;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OperationMetricsInterceptorTest {
+
+    @Mock
+    private OrgOperationRegistry orgOperationRegistry;
+    @Mock
+    private OrgSizeBuckets orgSizeBuckets;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OperationMetricsInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new OperationMetricsInterceptor(
+                orgOperationRegistry, new OrgManagerMetrics(meterRegistry, orgSizeBuckets));
+        Method method = OrgsController.class.getMethod("getOrg", String.class, String.class);
+        handler = new HandlerMethod(mock(OrgsController.class), method);
+        when(orgOperationRegistry.getOperationId(method)).thenReturn(Optional.of("getOrg"));
+    }
+
+    @Test
+    void operationTimerTaggedWithOperationOutcomeAndOrgSize() {
+        when(orgSizeBuckets.bucket("org")).thenReturn("11-100");
+
+        handle(HttpStatus.OK, null);
+        handle(HttpStatus.FORBIDDEN, null);
+        handle(HttpStatus.OK, new IllegalStateException());
+
+        assertEquals(1, operationTimer(Outcome.SUCCESS).count());
+        assertEquals(1, operationTimer(Outcome.DENIED).count());
+        assertEquals(1, operationTimer(Outcome.ERROR).count());
+        assertEquals("11-100", operationTimer(Outcome.SUCCESS).getId().getTag(OrgManagerMetrics.ORG_SIZE_TAG));
+    }
+
+    private void handle(HttpStatus status, Exception ex) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("orgId", "org"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+        response.setStatus(status.value());
+        interceptor.afterCompletion(request, response, handler, ex);
+    }
+
+    private Timer operationTimer(Outcome outcome) {
+        return meterRegistry.get(OrgManagerMetrics.OPERATION_TIMER)
+                .tag(OrgManagerMetrics.OPERATION_TAG, "getOrg")
+                .tag(OrgManagerMetrics.OUTCOME_TAG, outcome.getValue())
+                .timer();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.vality.orgmanager.controller.operation;
+
+import dev.vality.orgmanager.controller.OrgsController;
+import dev.vality.orgmanager.controller.UserController;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrgOperationRegistryTest {
+
+    @Test
+    void operationIdsMatchBouncerPolicyNames() {
+        Map<Method, String> orgsOperations = OrgOperationRegistry.resolveOperations(OrgsController.class);
+        Map<Method, String> userOperations = OrgOperationRegistry.resolveOperations(UserController.class);
+
+        assertFalse(orgsOperations.isEmpty());
+        assertFalse(userOperations.isEmpty());
+        orgsOperations.forEach((method, operationId) -> assertEquals(method.getName(), operationId));
+        userOperations.forEach((method, operationId) -> assertEquals(method.getName(), operationId));
+    }
+
+    @Test
+    void handlerWithoutOperationFailsResolution() {
+        assertThrows(IllegalStateException.class,
+                () -> OrgOperationRegistry.resolveOperations(UnannotatedController.class));
+    }
+
+    @RestController
+    static class UnannotatedController {
+
+        @GetMapping("/unannotated")
+        public ResponseEntity<Void> unannotated() {
+            return ResponseEntity.ok().build();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package dev.vality.orgmanager.converter;
 import dev.vality.bouncer.base.Entity;
 import dev.vality.bouncer.context.v1.OrgRole;
 import dev.vality.bouncer.context.v1.OrgRoleScope;
+import dev.vality.bouncer.context.v1.Organization;
 import dev.vality.bouncer.context.v1.User;
 import dev.vality.orgmanager.TestObjectFactory;
 import dev.vality.orgmanager.entity.MemberEntity;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -113,4 +116,39 @@ class BouncerContextConverterTest {
         assertEquals(organizationEntity.getParty(), organization.getParty().getId());
         assertEquals(memberRoleEntity.getRoleId(), organization.getRoles().iterator().next().getId());
     }
+
+    @Test
+    void shouldGroupRolesPerOrganizationWhenConvertingToUser() {
+        OrganizationEntity first = TestObjectFactory.buildOrganization();
+        OrganizationEntity second = TestObjectFactory.buildOrganization();
+        OrganizationEntity owned = TestObjectFactory.buildOrganization();
+        MemberEntity memberEntity = TestObjectFactory.testMemberEntity(TestObjectFactory.randomString());
+        memberEntity.setRoles(Set.of(
+                TestObjectFactory.buildMemberRole("Administrator", first.getId()),
+                TestObjectFactory.buildMemberRole("Accountant", first.getId()),
+                TestObjectFactory.buildMemberRole("Manager", second.getId())));
+        Set<OrganizationEntity> organizations = Set.of(first, second, owned);
+
+        User user = converter.toUser(memberEntity, organizations);
+        User preGrouped = converter.toUser(memberEntity, organizations,
+                BouncerContextConverter.groupRolesByOrganization(memberEntity.getRoles()));
+
+        assertEquals(user, preGrouped);
+        Map<String, Set<String>> rolesByOrg = user.getOrgs().stream()
+                .collect(Collectors.toMap(Organization::getId,
+                        org -> org.getRoles().stream().map(OrgRole::getId).collect(Collectors.toSet())));
+        assertEquals(Set.of("Administrator", "Accountant"), rolesByOrg.get(first.getId()));
+        assertEquals(Set.of("Manager"), rolesByOrg.get(second.getId()));
+        assertEquals(Set.of(), rolesByOrg.get(owned.getId()));
+    }
+
+    @Test
+    void shouldConvertToUserWithoutRoles() {
+        OrganizationEntity owned = TestObjectFactory.buildOrganization();
+
+        User user = converter.toUser(null, Set.of(owned));
+
+        assertNull(user.getId());
+        assertNull(user.getOrgs().iterator().next().getRoles());
+    }
 }
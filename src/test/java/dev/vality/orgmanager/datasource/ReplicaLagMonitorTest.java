@@ -0,0 +1,38 @@
+package dev.vality.orgmanager.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private DataSource replica;
+
+    @Test
+    void shouldNotRouteToReplicaBeforeFirstCheck() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void shouldNotRouteToUnreachableReplica() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.vality.orgmanager.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static dev.vality.orgmanager.datasource.ReplicaRoutingDataSource.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource replica;
+    @Mock
+    private DataSource primary;
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Mock
+    private Connection replicaConnection;
+    @Mock
+    private Connection primaryConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReplicaRoutingDataSource(replica, primary, replicaLagMonitor, meterRegistry);
+    }
+
+    @Test
+    void shouldUseReplicaWhenAvailable() throws SQLException {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routed(REPLICA, READ_ONLY)).isEqualTo(1);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLags() throws SQLException {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed(PRIMARY, LAG)).isEqualTo(1);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaFails() throws SQLException {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed(PRIMARY, ERROR)).isEqualTo(1);
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.counter(ROUTING_METRIC, TARGET_TAG, target, REASON_TAG, reason).count();
+    }
+}
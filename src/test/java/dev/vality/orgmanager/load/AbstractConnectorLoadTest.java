@@ -0,0 +1,104 @@
+package dev.vality.orgmanager.load;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.controller.AbstractControllerTest;
+import dev.vality.orgmanager.service.BouncerService;
+import dev.vality.orgmanager.service.dto.BouncerContextDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fires concurrent requests at a running server whose access checks block on a slow bouncer,
+ * subclasses run it with platform and with virtual request threads to compare throughput and memory.
+ * Excluded from the default build, run with {@code mvn test -Pload}.
+ */
+@Slf4j
+@Tag("load")
+@TestPropertySource(properties = "access-check.enabled=true")
+public abstract class AbstractConnectorLoadTest extends AbstractControllerTest {
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final Duration BOUNCER_LATENCY = Duration.ofMillis(50);
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private BouncerService bouncerService;
+
+    protected abstract String mode();
+
+    @Test
+    void shouldServeConcurrentRequests() throws Exception {
+        String orgId = organizationRepository.save(TestObjectFactory.buildOrganization()).getId();
+        when(bouncerService.havePrivileges(any(BouncerContextDto.class))).thenAnswer(invocation -> {
+            Thread.sleep(BOUNCER_LATENCY);
+            return true;
+        });
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/orgs/" + orgId))
+                .header("Authorization", "Bearer " + generateAdminJwt())
+                .header("X-Request-ID", "loadTest")
+                .GET()
+                .build();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        threads.resetPeakThreadCount();
+
+        CountDownLatch start = new CountDownLatch(1);
+        long startedAt;
+        List<Integer> statuses;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            List<CompletableFuture<Integer>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> send(httpClient, request, start), clients))
+                    .toList();
+            startedAt = System.nanoTime();
+            start.countDown();
+            statuses = responses.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+
+        log.info("{} threads: {} requests in {} ms, {} req/s, heap growth {} MB, peak platform threads {}",
+                mode(), CONCURRENT_REQUESTS, elapsed.toMillis(),
+                CONCURRENT_REQUESTS * 1000L / Math.max(elapsed.toMillis(), 1),
+                (heapAfter - heapBefore) / (1024 * 1024), threads.getPeakThreadCount());
+        assertThat(statuses).hasSize(CONCURRENT_REQUESTS).containsOnly(200);
+    }
+
+    private static int send(HttpClient httpClient, HttpRequest request, CountDownLatch start) {
+        try {
+            start.await();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.vality.orgmanager.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"spring.threads.virtual.enabled=true", "virtual-threads.pinning.enabled=true"})
+public class VirtualThreadConnectorLoadTest extends AbstractConnectorLoadTest {
+
+    @Override
+    protected String mode() {
+        return "Virtual";
+    }
+}
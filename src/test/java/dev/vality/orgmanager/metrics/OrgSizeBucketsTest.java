@@ -0,0 +1,69 @@
+package dev.vality.orgmanager.metrics;
+
+import dev.vality.orgmanager.config.properties.OrgSizeMetricsProperties;
+import dev.vality.orgmanager.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrgSizeBucketsTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private OrgSizeBuckets orgSizeBuckets;
+
+    @BeforeEach
+    void setUp() {
+        OrgSizeMetricsProperties properties = new OrgSizeMetricsProperties();
+        properties.setTtl(Duration.ofMinutes(1));
+        properties.setMaxSize(100L);
+        orgSizeBuckets = new OrgSizeBuckets(properties, memberRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void bucketBoundaries() {
+        assertEquals("0-10", OrgSizeBuckets.bucketOf(0));
+        assertEquals("0-10", OrgSizeBuckets.bucketOf(10));
+        assertEquals("11-100", OrgSizeBuckets.bucketOf(11));
+        assertEquals("101-1000", OrgSizeBuckets.bucketOf(1_000));
+        assertEquals("1001-10000", OrgSizeBuckets.bucketOf(10_000));
+        assertEquals("10001+", OrgSizeBuckets.bucketOf(10_001));
+    }
+
+    @Test
+    void memberCountIsCachedPerOrganization() {
+        when(memberRepository.countMembers("org")).thenReturn(42L);
+
+        assertEquals("11-100", orgSizeBuckets.bucket("org"));
+        assertEquals("11-100", orgSizeBuckets.bucket("org"));
+
+        verify(memberRepository, times(1)).countMembers("org");
+    }
+
+    @Test
+    void operationsWithoutOrganization() {
+        assertEquals(OrgSizeBuckets.NONE, orgSizeBuckets.bucket(null));
+
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void failedCountDoesNotBreakMetrics() {
+        when(memberRepository.countMembers("org")).thenThrow(new IllegalStateException());
+
+        assertEquals(OrgSizeBuckets.UNKNOWN, orgSizeBuckets.bucket("org"));
+    }
+}
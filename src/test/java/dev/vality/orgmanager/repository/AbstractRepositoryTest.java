@@ -10,12 +10,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestPropertySource;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
 @ActiveProfiles("test")
-@TestPropertySource(properties = "auth.enabled=false")
+@TestPropertySource(properties = {"auth.enabled=false", "scheduler.mail-outbox.enabled=false"})
 @SpringBootTest(
         webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
         classes = {OrgManagerApplication.class})
@@ -42,18 +42,22 @@ public abstract class AbstractRepositoryTest {
     @Autowired
     protected MemberContextRepository memberContextRepository;
 
-    @Transactional
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
     @BeforeEach
     public void setUp() throws Exception {
-        invitationRepository.deleteAll();
-        memberContextRepository.deleteAll();
-        organizationRepository.deleteAll();
-        var members = memberRepository.findAll();
-        members.forEach(it -> it.getRoles().clear());
-        memberRepository.saveAll(members);
-        memberRepository.deleteAll();
-        memberRoleRepository.deleteAll();
-        organizationRoleRepository.deleteAll();
+        transactionTemplate.executeWithoutResult(status -> {
+            invitationRepository.deleteAll();
+            memberContextRepository.deleteAll();
+            organizationRepository.deleteAll();
+            var members = memberRepository.findAll();
+            members.forEach(it -> it.getRoles().clear());
+            memberRepository.saveAll(members);
+            memberRepository.deleteAll();
+            memberRoleRepository.deleteAll();
+            organizationRoleRepository.deleteAll();
+        });
     }
 
     @BeforeAll
@@ -0,0 +1,123 @@
+package dev.vality.orgmanager.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexUsageTest extends AbstractRepositoryTest {
+
+    private static final int ROWS = 2_000;
+    private static final String ORG_ID = "org-42";
+    private static final String MEMBER_ID = "member-42";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> organizations = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        List<Object[]> roles = new ArrayList<>();
+        List<Object[]> invitations = new ArrayList<>();
+        List<Object[]> contexts = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            String orgId = "org-" + i;
+            String memberId = "member-" + i;
+            organizations.add(new Object[] {orgId, now, "name", "owner-" + i, "party-" + i});
+            members.add(new Object[] {memberId, memberId + "@vality.dev"});
+            memberships.add(new Object[] {memberId, orgId});
+            roles.add(new Object[] {"role-" + i, orgId, "Manager", "Shop", "shop-" + i});
+            invitations.add(new Object[] {"invitation-" + i, orgId, now, now, "token-" + i, "Email", "email",
+                    i % 10 == 0 ? "Pending" : "Accepted"});
+            contexts.add(new Object[] {memberId, orgId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.organization (id, created_at, name, owner, party) " +
+                "VALUES (?, ?, ?, ?, ?)", organizations);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member (id, email) VALUES (?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_to_organization (member_id, organization_id) " +
+                "VALUES (?, ?)", memberships);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_role " +
+                "(id, organization_id, role_id, scope_id, resource_id) VALUES (?, ?, ?, ?, ?)", roles);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.invitation (id, organization_id, created_at, expires_at, " +
+                "accept_token, invitee_contact_type, invitee_contact_email, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", invitations);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_context (member_id, organization_id) " +
+                "VALUES (?, ?)", contexts);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM org_manager.member_context");
+        jdbcTemplate.update("DELETE FROM org_manager.invitation");
+        jdbcTemplate.update("DELETE FROM org_manager.member_role");
+        jdbcTemplate.update("DELETE FROM org_manager.member_to_organization");
+        jdbcTemplate.update("DELETE FROM org_manager.member");
+        jdbcTemplate.update("DELETE FROM org_manager.organization");
+    }
+
+    @Test
+    void invitationLookupsUseIndexes() {
+        assertThat(explain("SELECT * FROM org_manager.invitation WHERE accept_token = 'token-42'"))
+                .contains("invitation_accept_token_idx");
+        assertThat(explain("SELECT * FROM org_manager.invitation WHERE organization_id = '" + ORG_ID + "'"))
+                .contains("invitation_organization_id_status_idx");
+        assertThat(explain("SELECT * FROM org_manager.invitation " +
+                "WHERE organization_id = '" + ORG_ID + "' AND status = 'Pending'"))
+                .contains("invitation_organization_id_status_idx");
+        assertThat(explain("SELECT * FROM org_manager.invitation WHERE status = 'Pending'"))
+                .contains("invitation_pending_expires_at_idx");
+    }
+
+    @Test
+    void memberRoleByOrganizationUsesIndex() {
+        assertThat(explain("SELECT * FROM org_manager.member_role WHERE organization_id = '" + ORG_ID + "'"))
+                .contains("member_role_organization_id_idx");
+    }
+
+    @Test
+    void organizationByOwnerUsesIndex() {
+        assertThat(explain("SELECT * FROM org_manager.organization WHERE owner = 'owner-42'"))
+                .contains("organization_owner_id_idx");
+    }
+
+    @Test
+    void membersOfOrganizationUseIndex() {
+        assertThat(explain("SELECT member_id FROM org_manager.member_to_organization " +
+                "WHERE organization_id = '" + ORG_ID + "'"))
+                .contains("member_to_organization_organization_id_member_id_idx");
+    }
+
+    @Test
+    void membersPageOfOrganizationUsesIndex() {
+        assertThat(explain("SELECT member_id FROM org_manager.member_to_organization " +
+                "WHERE organization_id = '" + ORG_ID + "' AND member_id > '" + MEMBER_ID + "' " +
+                "ORDER BY member_id LIMIT 10"))
+                .contains("member_to_organization_organization_id_member_id_idx");
+    }
+
+    @Test
+    void memberContextByMemberUsesIndex() {
+        assertThat(explain("SELECT * FROM org_manager.member_context WHERE member_id = '" + MEMBER_ID + "'"))
+                .contains("member_context_member_id_idx");
+    }
+
+    private String explain(String query) {
+        return transactionTemplate.execute(status -> {
+            // a sequential scan is only chosen when no usable index exists
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.entity.InvitationEntity;
+import dev.vality.orgmanager.entity.OrganizationEntity;
+import dev.vality.orgmanager.util.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvitationBatchOperationsTest extends AbstractRepositoryTest {
+
+    private static final int INVITATIONS = 1_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldInsertInvitationsInFewRoundTrips() {
+        OrganizationEntity organization = organizationRepository.save(TestObjectFactory.buildOrganization());
+        List<InvitationEntity> invitations = IntStream.range(0, INVITATIONS)
+                .mapToObj(i -> TestObjectFactory.buildInvitation(organization.getId(), "invitee-" + i + "@mail.ru"))
+                .toList();
+        StatementCounter statementCounter = new StatementCounter();
+        InvitationBatchOperations operations =
+                new InvitationBatchOperationsImpl(new JdbcTemplate(statementCounter.wrap(dataSource)));
+
+        operations.insertAll(invitations);
+
+        // one batch of invitations, two batches of roles and two batches of invitation to role links
+        assertThat(statementCounter.executions("insert")).isEqualTo(5);
+        assertThat(statementCounter.batchedRows("insert into org_manager.member_role ")).isEqualTo(INVITATIONS * 2);
+        assertThat(count("SELECT count(*) FROM org_manager.invitation WHERE organization_id = ?",
+                organization.getId()))
+                .isEqualTo(INVITATIONS);
+        assertThat(count("SELECT count(*) FROM org_manager.member_role WHERE organization_id = ?",
+                organization.getId()))
+                .isEqualTo(INVITATIONS * 2);
+        assertThat(invitationRepository.findById(invitations.get(0).getId()))
+                .hasValueSatisfying(invitation -> assertThat(invitation.getInviteeRoles()).hasSize(2));
+    }
+
+    private Integer count(String sql, String orgId) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, orgId);
+    }
+}
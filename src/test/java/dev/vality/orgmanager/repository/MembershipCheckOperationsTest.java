@@ -0,0 +1,64 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.entity.MemberEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
+import dev.vality.orgmanager.entity.OrganizationEntity;
+import dev.vality.orgmanager.service.dto.MembershipCheck;
+import dev.vality.orgmanager.util.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MembershipCheckOperationsTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldAnswerAllChecksWithOneQuery() {
+        String memberId = TestObjectFactory.randomString();
+        MemberEntity member = TestObjectFactory.testMemberEntity(memberId);
+        OrganizationEntity organization = TestObjectFactory.buildOrganization(member);
+        OrganizationEntity otherOrganization = TestObjectFactory.buildOrganization();
+        MemberRoleEntity administrator = TestObjectFactory.buildMemberRole("Administrator", organization.getId());
+        MemberRoleEntity revoked = TestObjectFactory.buildMemberRole("Accountant", organization.getId());
+        revoked.setActive(false);
+        memberRoleRepository.saveAll(List.of(administrator, revoked));
+        member.setRoles(Set.of(administrator, revoked));
+        memberRepository.save(member);
+        organizationRepository.saveAll(List.of(organization, otherOrganization));
+        StatementCounter statementCounter = new StatementCounter();
+        MembershipCheckOperations operations =
+                new MembershipCheckOperationsImpl(new JdbcTemplate(statementCounter.wrap(dataSource)));
+
+        BitSet result = operations.checkMemberships(List.of(
+                new MembershipCheck(memberId, organization.getId(), null),
+                new MembershipCheck(memberId, organization.getId(), "Administrator"),
+                new MembershipCheck(memberId, organization.getId(), "Accountant"),
+                new MembershipCheck(memberId, organization.getId(), "Manager"),
+                new MembershipCheck(memberId, otherOrganization.getId(), null),
+                new MembershipCheck(TestObjectFactory.randomString(), organization.getId(), null),
+                new MembershipCheck(memberId, organization.getId(), "Administrator")));
+
+        assertThat(result.stream().boxed().toList()).containsExactly(0, 1, 6);
+        assertThat(statementCounter.executions("select")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotQueryForNoChecks() {
+        StatementCounter statementCounter = new StatementCounter();
+        MembershipCheckOperations operations =
+                new MembershipCheckOperationsImpl(new JdbcTemplate(statementCounter.wrap(dataSource)));
+
+        assertThat(operations.checkMemberships(List.of()).isEmpty()).isTrue();
+        assertThat(statementCounter.executions("select")).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.entity.OrganizationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrganizationPagingTest extends AbstractRepositoryTest {
+
+    private static final int ORGANIZATIONS = 2_000;
+    private static final int OWNED_ORGANIZATIONS = 200;
+    private static final int PAGE = 20;
+    private static final String USER_ID = "user-42";
+    private static final Pattern SCAN_ROWS = Pattern.compile("Scan.*actual time=\\S+ rows=(\\d+) loops=(\\d+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> organizations = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        for (int i = 0; i < ORGANIZATIONS; i++) {
+            String orgId = String.format("org-%05d", i);
+            String owner = i < OWNED_ORGANIZATIONS ? USER_ID : "owner-" + i;
+            organizations.add(new Object[] {orgId, now, "name", owner, "party-" + i});
+            // owned organizations partly overlap with memberships
+            if (i >= OWNED_ORGANIZATIONS / 2) {
+                memberships.add(new Object[] {USER_ID, orgId});
+            }
+            memberships.add(new Object[] {"member-" + i, orgId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.organization (id, created_at, name, owner, party) " +
+                "VALUES (?, ?, ?, ?, ?)", organizations);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member (id, email) VALUES (?, ?)",
+                memberships.stream()
+                        .map(membership -> membership[0])
+                        .distinct()
+                        .map(memberId -> new Object[] {memberId, memberId + "@vality.dev"})
+                        .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_to_organization (member_id, organization_id) " +
+                "VALUES (?, ?)", memberships);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM org_manager.member_to_organization");
+        jdbcTemplate.update("DELETE FROM org_manager.member");
+        jdbcTemplate.update("DELETE FROM org_manager.organization");
+    }
+
+    @Test
+    void shouldPageThroughAllOrganizationsOfUser() {
+        List<String> pagedIds = new ArrayList<>();
+        List<OrganizationEntity> page = organizationRepository.findAllByMember(USER_ID, PAGE);
+        while (!page.isEmpty()) {
+            assertThat(page).hasSizeLessThanOrEqualTo(PAGE);
+            page.forEach(organization -> pagedIds.add(organization.getId()));
+            page = organizationRepository.findAllByMember(USER_ID, pagedIds.get(pagedIds.size() - 1), PAGE);
+        }
+
+        assertThat(pagedIds)
+                .hasSize(ORGANIZATIONS)
+                .doesNotHaveDuplicates()
+                .isSortedAccordingTo((left, right) -> right.compareTo(left));
+    }
+
+    @Test
+    void pageQueryReadsAtMostAPagePerBranch() {
+        String plan = explainPageQuery("EXPLAIN (ANALYZE)");
+        Matcher scan = SCAN_ROWS.matcher(plan);
+        int scans = 0;
+        while (scan.find()) {
+            scans++;
+            // the outer lookup by id runs once per candidate of both branches
+            assertThat(Long.parseLong(scan.group(1)) * Long.parseLong(scan.group(2)))
+                    .isLessThanOrEqualTo(2L * (PAGE + 1));
+        }
+
+        assertThat(scans).isPositive();
+    }
+
+    @Test
+    void pageQueryReadsBothBranchesThroughIndexes() {
+        assertThat(explainPageQuery("EXPLAIN"))
+                .contains("organization_to_member_pkey")
+                .contains("organization_owner_id_idx");
+    }
+
+    private String explainPageQuery(String explain) {
+        return transactionTemplate.execute(status -> {
+            // the seeded tables are small enough for the planner to prefer sequential scans
+            entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+            List<?> plan = entityManager
+                    .createNativeQuery(explain + " " + OrganizationRepository.FIND_ALL_BY_MEMBER_AFTER)
+                    .setParameter(1, USER_ID)
+                    .setParameter(2, "org-01000")
+                    .setParameter(3, PAGE + 1)
+                    .getResultList();
+            return plan.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining("\n"));
+        });
+    }
+}
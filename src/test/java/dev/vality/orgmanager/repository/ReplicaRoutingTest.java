@@ -0,0 +1,63 @@
+package dev.vality.orgmanager.repository;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.datasource.PrimaryReads;
+import dev.vality.orgmanager.datasource.ReplicaLagMonitor;
+import dev.vality.orgmanager.service.OrganizationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static dev.vality.orgmanager.datasource.ReplicaRoutingDataSource.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // the primary doubles as a replica without lag
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", postgres::getJdbcUrl);
+        registry.add("datasource.replica.username", postgres::getUsername);
+        registry.add("datasource.replica.password", postgres::getPassword);
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        String orgId = organizationRepository.save(TestObjectFactory.buildOrganization()).getId();
+        replicaLagMonitor.checkLag();
+        double before = routed(REPLICA, READ_ONLY);
+
+        assertThat(organizationService.get(orgId)).isPresent();
+
+        assertThat(routed(REPLICA, READ_ONLY)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void shouldKeepForcedReadsOnPrimary() {
+        String orgId = organizationRepository.save(TestObjectFactory.buildOrganization()).getId();
+        replicaLagMonitor.checkLag();
+        double replicaBefore = routed(REPLICA, READ_ONLY);
+        double primaryBefore = routed(PRIMARY, FORCED);
+
+        assertThat(PrimaryReads.call(() -> organizationService.get(orgId))).isPresent();
+
+        assertThat(routed(PRIMARY, FORCED)).isEqualTo(primaryBefore + 1);
+        assertThat(routed(REPLICA, READ_ONLY)).isEqualTo(replicaBefore);
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.counter(ROUTING_METRIC, TARGET_TAG, target, REASON_TAG, reason).count();
+    }
+}
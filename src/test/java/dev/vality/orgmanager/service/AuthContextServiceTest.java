@@ -1,9 +1,16 @@
 package dev.vality.orgmanager.service;
 
+import dev.vality.bouncer.ctx.ContextFragment;
 import dev.vality.bouncer.ctx.ContextFragmentType;
 import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.cache.AuthContextCache;
+import dev.vality.orgmanager.cache.AuthContextSingleFlight;
+import dev.vality.orgmanager.config.properties.AuthContextCacheProperties;
+import dev.vality.orgmanager.config.properties.AuthContextSingleFlightProperties;
 import dev.vality.orgmanager.converter.BouncerContextConverter;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
 import dev.vality.orgmanager.service.model.UserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.thrift.TDeserializer;
 import org.apache.thrift.TException;
 import org.apache.thrift.transport.TTransportException;
@@ -13,9 +20,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,8 +40,11 @@ public class AuthContextServiceTest {
 
     private final BouncerContextConverter bouncerConverter = new BouncerContextConverter();
     private final TDeserializer byteDeserializer = new TDeserializer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     @Mock
     private UserService userService;
+    private AuthContextCacheProperties cacheProperties;
+    private AuthContextCache authContextCache;
     private AuthContextService service;
 
     public AuthContextServiceTest() throws TTransportException {
@@ -34,7 +52,15 @@ public class AuthContextServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new AuthContextService(userService, bouncerConverter);
+        cacheProperties = new AuthContextCacheProperties();
+        cacheProperties.setEnabled(false);
+        cacheProperties.setTtl(Duration.ofMinutes(1));
+        cacheProperties.setMaxSize(100L);
+        AuthContextSingleFlightProperties singleFlightProperties = new AuthContextSingleFlightProperties();
+        singleFlightProperties.setEnabled(true);
+        AuthContextSingleFlight singleFlight = new AuthContextSingleFlight(singleFlightProperties, meterRegistry);
+        authContextCache = new AuthContextCache(cacheProperties, singleFlight, new SimpleMeterRegistry());
+        service = new AuthContextService(userService, bouncerConverter, authContextCache, singleFlight);
     }
 
     @Test
@@ -54,4 +80,55 @@ public class AuthContextServiceTest {
         assertEquals(member.getId(), contextFragment.getUser().getId());
         assertEquals(ContextFragmentType.v1_thrift_binary, userContext.getType());
     }
+
+    @Test
+    void userContextServedFromCacheUntilMembershipChanges() throws TException {
+        cacheProperties.setEnabled(true);
+        var id = TestObjectFactory.randomString();
+        var member = TestObjectFactory.testMemberEntity(id);
+        var organization = TestObjectFactory.buildOrganization(member);
+        when(userService.findById(id)).thenReturn(new UserInfo(member, Set.of(organization)));
+
+        var first = service.getUserContext(id);
+        var second = service.getUserContext(id);
+
+        verify(userService, times(1)).findById(id);
+        assertArrayEquals(first.getContent(), second.getContent());
+
+        authContextCache.onMembershipChanged(MembershipChangedEvent.ofMember(organization.getId(), id));
+        service.getUserContext(id);
+
+        verify(userService, times(2)).findById(id);
+    }
+
+    @Test
+    void concurrentUserContextRequestsShareOneLookup() throws Exception {
+        var id = TestObjectFactory.randomString();
+        var member = TestObjectFactory.testMemberEntity(id);
+        var organization = TestObjectFactory.buildOrganization(member);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(userService.findById(id)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await();
+            return new UserInfo(member, Set.of(organization));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ContextFragment> first = executor.submit(() -> service.getUserContext(id));
+            assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+            Future<ContextFragment> second = executor.submit(() -> service.getUserContext(id));
+            while (meterRegistry.counter(AuthContextSingleFlight.SINGLE_FLIGHT_METRIC, "role", "coalesced")
+                    .count() < 1) {
+                Thread.onSpinWait();
+            }
+            releaseLookup.countDown();
+
+            assertArrayEquals(first.get(5, TimeUnit.SECONDS).getContent(),
+                    second.get(5, TimeUnit.SECONDS).getContent());
+            verify(userService, times(1)).findById(id);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -34,6 +34,8 @@ class BouncerContextFactoryTest {
 
     private BouncerProperties bouncerProperties;
 
+    private CallerContext callerContext;
+
     private BouncerContextFactory bouncerContextFactory;
 
     @BeforeEach
@@ -43,8 +45,8 @@ class BouncerContextFactoryTest {
         bouncerProperties.setAuthMethod(TestObjectFactory.randomString());
         bouncerProperties.setDeploymentId(TestObjectFactory.randomString());
         bouncerProperties.setRealm(TestObjectFactory.randomString());
-        bouncerContextFactory =
-                new BouncerContextFactory(bouncerConverter, bouncerProperties, userService, keycloakService);
+        callerContext = new CallerContext(keycloakService, userService, bouncerConverter);
+        bouncerContextFactory = new BouncerContextFactory(bouncerProperties, callerContext);
     }
 
     @Test
@@ -71,7 +73,26 @@ class BouncerContextFactoryTest {
         assertEquals(member.getId(), contextFragment.getUser().getId());
         assertEquals(bouncerContext.getOperationName(), contextFragment.getOrgmgmt().getOp().getId());
         assertEquals(member.getId(), contextFragment.getOrgmgmt().getOp().getMember().getId());
-        verify(userService, times(2)).findById(anyString());
+        verify(userService, times(1)).findById(anyString());
+        verify(keycloakService, times(1)).getAccessToken();
+        assertEquals(1, callerContext.getUserLookups());
+    }
+
+    @Test
+    void buildContextTwiceWithinRequestLooksUpUserOnce() throws TException {
+        var token = TestObjectFactory.testToken();
+        var id = token.getSubject();
+        var member = TestObjectFactory.testMemberEntity(id);
+        var organization = TestObjectFactory.buildOrganization(member);
+
+        when(userService.findById(id)).thenReturn(new UserInfo(member, Set.of(organization)));
+        when(keycloakService.getAccessToken()).thenReturn(token);
+
+        bouncerContextFactory.buildContext(TestObjectFactory.testBouncerContextDto(id));
+        bouncerContextFactory.buildContext(TestObjectFactory.testBouncerContextDto(id));
+
+        assertEquals(1, callerContext.getUserLookups());
+        verify(userService, times(1)).findById(id);
     }
 
 }
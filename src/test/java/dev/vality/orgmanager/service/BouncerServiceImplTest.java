@@ -3,9 +3,26 @@ package dev.vality.orgmanager.service;
 import dev.vality.bouncer.decisions.*;
 import dev.vality.orgmanagement.UserNotFound;
 import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.cache.BouncerDecisionCache;
+import dev.vality.orgmanager.cache.LastKnownGoodDecisionStore;
 import dev.vality.orgmanager.config.properties.BouncerProperties;
+import dev.vality.orgmanager.config.properties.BouncerResilienceProperties;
+import dev.vality.orgmanager.config.properties.DecisionCacheProperties;
 import dev.vality.orgmanager.exception.BouncerException;
+import dev.vality.orgmanager.exception.BouncerUnavailableException;
+import dev.vality.orgmanager.metrics.OrgManagerMetrics;
+import dev.vality.orgmanager.metrics.OrgSizeBuckets;
+import dev.vality.orgmanager.metrics.Outcome;
 import dev.vality.orgmanager.service.dto.BouncerContextDto;
+import dev.vality.woody.api.flow.WFlow;
+import dev.vality.woody.api.trace.context.TraceContext;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
 import org.apache.thrift.TException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,11 +30,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -29,6 +53,20 @@ class BouncerServiceImplTest {
     @Mock
     private BouncerContextFactory bouncerContextFactory;
 
+    @Mock
+    private CallerContext callerContext;
+
+    @Mock
+    private OrgSizeBuckets orgSizeBuckets;
+
+    private DecisionCacheProperties decisionCacheProperties;
+
+    private BouncerResilienceProperties resilienceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BouncerCallGuard bouncerCallGuard;
+
     private BouncerService bouncerService;
 
 
@@ -36,7 +74,30 @@ class BouncerServiceImplTest {
     void setUp() {
         BouncerProperties bouncerProperties = new BouncerProperties();
         bouncerProperties.setRuleSetId(TestObjectFactory.randomString());
-        bouncerService = new BouncerServiceImpl(bouncerContextFactory, bouncerClient, bouncerProperties);
+        decisionCacheProperties = new DecisionCacheProperties();
+        decisionCacheProperties.setEnabled(false);
+        decisionCacheProperties.setTtl(Duration.ofMinutes(1));
+        decisionCacheProperties.setMaxSize(100L);
+        BouncerDecisionCache decisionCache =
+                new BouncerDecisionCache(decisionCacheProperties, new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        when(orgSizeBuckets.bucket(any())).thenReturn(OrgSizeBuckets.NONE);
+        resilienceProperties = new BouncerResilienceProperties();
+        resilienceProperties.setFailureRateThreshold(50f);
+        resilienceProperties.setSlidingWindowSize(4);
+        resilienceProperties.setMinimumNumberOfCalls(4);
+        resilienceProperties.setWaitDurationInOpenState(Duration.ofMinutes(1));
+        resilienceProperties.setPermittedCallsInHalfOpenState(1);
+        resilienceProperties.setMaxConcurrentCalls(10);
+        resilienceProperties.setReadTimeout(Duration.ofMillis(200));
+        resilienceProperties.setWriteTimeout(Duration.ofSeconds(1));
+        resilienceProperties.setDegradedMode(BouncerResilienceProperties.DegradedMode.DENY);
+        resilienceProperties.setLastKnownGoodMaxSize(100L);
+        bouncerCallGuard = new BouncerCallGuard(resilienceProperties, meterRegistry);
+        bouncerService = new BouncerServiceImpl(bouncerContextFactory, bouncerClient, bouncerProperties,
+                decisionCache, callerContext, new OrgManagerMetrics(meterRegistry, orgSizeBuckets),
+                bouncerCallGuard,
+                new LastKnownGoodDecisionStore(resilienceProperties, decisionCacheProperties, meterRegistry));
     }
 
     @Test
@@ -89,4 +150,176 @@ class BouncerServiceImplTest {
 
         assertTrue(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void havePrivilegesRecordsJudgeTimer() throws TException {
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        Judgement judgement = new Judgement();
+        Resolution resolution = new Resolution();
+        resolution.setRestricted(new ResolutionRestricted());
+        judgement.setResolution(resolution);
+        when(bouncerClient.judge(anyString(), any(Context.class)))
+                .thenReturn(judgement)
+                .thenThrow(new RulesetNotFound());
+
+        bouncerService.havePrivileges(bouncerContext);
+        assertThrows(BouncerException.class, () -> bouncerService.havePrivileges(bouncerContext));
+
+        assertEquals(1, judgeTimer(Outcome.DENIED).count());
+        assertEquals(1, judgeTimer(Outcome.ERROR).count());
+        assertEquals(bouncerContext.getOperationName(), judgeTimer(Outcome.DENIED).getId()
+                .getTag(OrgManagerMetrics.OPERATION_TAG));
+    }
+
+    private Timer judgeTimer(Outcome outcome) {
+        return meterRegistry.get(OrgManagerMetrics.BOUNCER_JUDGE_TIMER)
+                .tag(OrgManagerMetrics.OUTCOME_TAG, outcome.getValue())
+                .timer();
+    }
+
+    @Test
+    void havePrivilegesServedFromDecisionCache() throws TException {
+        decisionCacheProperties.setEnabled(true);
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        when(callerContext.getAccessToken()).thenReturn(TestObjectFactory.testToken());
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        Judgement judgement = new Judgement();
+        Resolution resolution = new Resolution();
+        resolution.setAllowed(new ResolutionAllowed());
+        judgement.setResolution(resolution);
+        when(bouncerClient.judge(anyString(), any(Context.class))).thenReturn(judgement);
+
+        assertTrue(bouncerService.havePrivileges(bouncerContext));
+        assertTrue(bouncerService.havePrivileges(bouncerContext));
+
+        verify(bouncerClient, times(1)).judge(anyString(), any(Context.class));
+    }
+
+    @Test
+    void havePrivilegesDeniedWhenBouncerTimesOut() throws TException {
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        bouncerContext.setOperationName("getOrg");
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        when(bouncerClient.judge(anyString(), any(Context.class))).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofSeconds(5));
+            return allowed();
+        });
+
+        long start = System.nanoTime();
+        assertFalse(bouncerService.havePrivileges(bouncerContext));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        assertEquals(1, degraded(BouncerUnavailableException.Reason.TIMEOUT));
+    }
+
+    @Test
+    void timedOutBouncerCallIsInterruptedAndReleasesItsPermit() throws Exception {
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        bouncerContext.setOperationName("getOrg");
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(bouncerClient.judge(anyString(), any(Context.class))).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return allowed();
+        });
+
+        assertFalse(bouncerService.havePrivileges(bouncerContext));
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (bouncerCallGuard.availableConcurrentCalls() < resilienceProperties.getMaxConcurrentCalls()
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(resilienceProperties.getMaxConcurrentCalls(), bouncerCallGuard.availableConcurrentCalls());
+    }
+
+    @Test
+    void bouncerCallKeepsCallerTrace() throws Exception {
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        AtomicReference<String> calleeTraceId = new AtomicReference<>();
+        AtomicReference<String> calleeOtelTraceId = new AtomicReference<>();
+        when(bouncerClient.judge(anyString(), any(Context.class))).thenAnswer(invocation -> {
+            calleeTraceId.set(traceId());
+            calleeOtelTraceId.set(Span.current().getSpanContext().getTraceId());
+            return allowed();
+        });
+        SpanContext otelSpan = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+                TraceFlags.getSampled(), TraceState.getDefault());
+
+        String callerTraceId = new WFlow().createServiceFork(() -> {
+            try (Scope ignored = Span.wrap(otelSpan).makeCurrent()) {
+                assertTrue(bouncerService.havePrivileges(bouncerContext));
+            }
+            return traceId();
+        }).call();
+
+        assertNotNull(callerTraceId);
+        assertEquals(callerTraceId, calleeTraceId.get());
+        assertEquals(otelSpan.getTraceId(), calleeOtelTraceId.get());
+    }
+
+    private static String traceId() {
+        return TraceContext.getCurrentTraceData().getServiceSpan().getSpan().getTraceId();
+    }
+
+    @Test
+    void havePrivilegesFailsFastWhenCircuitIsOpen() throws TException {
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        when(bouncerClient.judge(anyString(), any(Context.class)))
+                .thenThrow(new IllegalStateException("Connection refused"));
+
+        for (int i = 0; i < resilienceProperties.getMinimumNumberOfCalls(); i++) {
+            assertFalse(bouncerService.havePrivileges(bouncerContext));
+        }
+        assertFalse(bouncerService.havePrivileges(bouncerContext));
+
+        verify(bouncerClient, times(resilienceProperties.getMinimumNumberOfCalls()))
+                .judge(anyString(), any(Context.class));
+        assertEquals(1, degraded(BouncerUnavailableException.Reason.CIRCUIT_OPEN));
+        assertEquals(1, meterRegistry.get(BouncerCallGuard.TRANSITIONS_METRIC)
+                .tag("from", "closed")
+                .tag("to", "open")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void havePrivilegesServedFromLastKnownGoodWhenBouncerFails() throws TException {
+        resilienceProperties.setDegradedMode(BouncerResilienceProperties.DegradedMode.LAST_KNOWN_GOOD);
+        BouncerContextDto bouncerContext = TestObjectFactory.testBouncerContextDto();
+        when(callerContext.getAccessToken()).thenReturn(TestObjectFactory.testToken());
+        when(bouncerContextFactory.buildContext(bouncerContext)).thenReturn(new Context());
+        when(bouncerClient.judge(anyString(), any(Context.class)))
+                .thenReturn(allowed())
+                .thenThrow(new IllegalStateException("Connection refused"));
+
+        assertTrue(bouncerService.havePrivileges(bouncerContext));
+        assertTrue(bouncerService.havePrivileges(bouncerContext));
+
+        assertEquals(1, degraded(BouncerUnavailableException.Reason.ERROR));
+    }
+
+    private static Judgement allowed() {
+        Judgement judgement = new Judgement();
+        Resolution resolution = new Resolution();
+        resolution.setAllowed(new ResolutionAllowed());
+        judgement.setResolution(resolution);
+        return judgement;
+    }
+
+    private double degraded(BouncerUnavailableException.Reason reason) {
+        return meterRegistry.get(LastKnownGoodDecisionStore.DEGRADED_METRIC)
+                .tag("reason", reason.getValue())
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,186 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.orgmanager.repository.AbstractRepositoryTest;
+import dev.vality.orgmanager.service.model.UserInfo;
+import dev.vality.swag.organizations.model.Member;
+import dev.vality.swag.organizations.model.MemberOrgListResult;
+import dev.vality.swag.organizations.model.MemberRole;
+import dev.vality.swag.organizations.model.OrganizationMembership;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EntityFetchStatisticsTest extends AbstractRepositoryTest {
+
+    private static final int MEMBERS = 10_000;
+    private static final String ORG_ID = "big-org";
+    private static final String OTHER_ORG_ID = "other-org";
+    private static final String MEMBER_ID = "member-42";
+    private static final String INVITEE_ID = "invitee";
+    private static final String INVITEE_EMAIL = "invitee@vality.dev";
+    private static final String INVITE_TOKEN = "invite-token";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private UserService userService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.organization (id, created_at, name, owner, party) " +
+                "VALUES (?, ?, ?, ?, ?)", List.of(
+                new Object[] {ORG_ID, now, "big", "owner", "big-party"},
+                new Object[] {OTHER_ORG_ID, now, "other", MEMBER_ID, "other-party"}));
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        List<Object[]> roles = new ArrayList<>();
+        List<Object[]> memberRoles = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            String memberId = "member-" + i;
+            members.add(new Object[] {memberId, memberId + "@vality.dev"});
+            memberships.add(new Object[] {memberId, ORG_ID});
+            memberships.add(new Object[] {memberId, OTHER_ORG_ID});
+            roles.add(new Object[] {"role-" + i, ORG_ID, "Manager"});
+            roles.add(new Object[] {"other-role-" + i, OTHER_ORG_ID, "Accountant"});
+            memberRoles.add(new Object[] {memberId, "role-" + i});
+            memberRoles.add(new Object[] {memberId, "other-role-" + i});
+        }
+        roles.add(new Object[] {"invitee-role", ORG_ID, "Administrator"});
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member (id, email) VALUES (?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_to_organization (member_id, organization_id) " +
+                "VALUES (?, ?)", memberships);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_role (id, organization_id, role_id, active) " +
+                "VALUES (?, ?, ?, true)", roles);
+        jdbcTemplate.batchUpdate("INSERT INTO org_manager.member_to_member_role (member_id, member_role_id) " +
+                "VALUES (?, ?)", memberRoles);
+        jdbcTemplate.update("INSERT INTO org_manager.invitation (id, organization_id, created_at, expires_at, " +
+                        "accept_token, invitee_contact_type, invitee_contact_email, status) " +
+                        "VALUES ('invitation', ?, ?, ?, ?, 'Email', ?, 'Pending')",
+                ORG_ID, now, Timestamp.valueOf(LocalDateTime.now().plusDays(1)), INVITE_TOKEN, INVITEE_EMAIL);
+        jdbcTemplate.update("INSERT INTO org_manager.invitation_to_member_role (invitation_id, member_role_id) " +
+                "VALUES ('invitation', 'invitee-role')");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM org_manager.invitation_to_member_role");
+        jdbcTemplate.update("DELETE FROM org_manager.invitation");
+        jdbcTemplate.update("DELETE FROM org_manager.member_to_member_role");
+        jdbcTemplate.update("DELETE FROM org_manager.member_to_organization");
+        jdbcTemplate.update("DELETE FROM org_manager.member_role");
+        jdbcTemplate.update("DELETE FROM org_manager.member");
+        jdbcTemplate.update("DELETE FROM org_manager.organization");
+    }
+
+    @Test
+    void getOrgMemberDoesNotLoadAssociationsOfOtherMembers() {
+        Member member = organizationService.getOrgMember(MEMBER_ID, ORG_ID);
+
+        assertThat(member.getRoles()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        // the requested member and its active role in the organization
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void getOrgMemberLoadsFarLessThanScanningOrganizationMembers() {
+        organizationService.getOrgMember(MEMBER_ID, ORG_ID);
+        long lookupEntityLoads = statistics.getEntityLoadCount();
+        long lookupCollectionFetches = statistics.getCollectionFetchCount();
+        statistics.clear();
+        scanOrganizationMembers();
+
+        assertThat(lookupEntityLoads).isLessThanOrEqualTo(2);
+        assertThat(lookupCollectionFetches).isZero();
+        assertThat(statistics.getEntityLoadCount()).isGreaterThanOrEqualTo(MEMBERS);
+        assertThat(statistics.getCollectionFetchCount()).isPositive();
+    }
+
+    private void scanOrganizationMembers() {
+        transactionTemplate.executeWithoutResult(status -> organizationService.findById(ORG_ID).getMembers()
+                .stream()
+                .filter(memberEntity -> memberEntity.getId().equals(MEMBER_ID))
+                .findFirst()
+                .orElseThrow());
+    }
+
+    @Test
+    void assignMemberRoleDoesNotLoadOtherMembers() {
+        organizationService.assignMemberRole(ORG_ID, MEMBER_ID, new MemberRole().roleId("Accountant"));
+
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM org_manager.member_to_member_role " +
+                "WHERE member_id = ?", Long.class, MEMBER_ID)).isEqualTo(3L);
+    }
+
+    @Test
+    void expelOrgMemberRemovesSingleMembership() {
+        organizationService.expelOrgMember(ORG_ID, MEMBER_ID);
+
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM org_manager.member_to_organization " +
+                "WHERE organization_id = ?", Long.class, ORG_ID)).isEqualTo(MEMBERS - 1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM org_manager.member_to_organization " +
+                "WHERE member_id = ?", Long.class, MEMBER_ID)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT active FROM org_manager.member_role WHERE id = ?",
+                Boolean.class, "role-42")).isFalse();
+    }
+
+    @Test
+    void findUserLoadsOnlyItsRolesAndOrganizations() {
+        UserInfo userInfo = userService.findById(MEMBER_ID);
+
+        assertThat(userInfo.getMember().getRoles()).hasSize(2);
+        assertThat(userInfo.getOrganizations()).hasSize(2);
+        assertThat(userInfo.getRolesByOrganization()).containsOnlyKeys(ORG_ID, OTHER_ORG_ID);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void listMembersDoesNotLoadEntities() {
+        MemberOrgListResult result = organizationService.listMembers(ORG_ID);
+
+        assertThat(result.getResult()).hasSize(MEMBERS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void joinOrganizationDoesNotLoadExistingMembers() {
+        OrganizationMembership membership =
+                organizationService.joinOrganization(INVITE_TOKEN, INVITEE_ID, INVITEE_EMAIL);
+
+        assertThat(membership.getMember().getId()).isEqualTo(INVITEE_ID);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM org_manager.member_to_organization " +
+                "WHERE organization_id = ?", Long.class, ORG_ID)).isEqualTo(MEMBERS + 1L);
+    }
+}
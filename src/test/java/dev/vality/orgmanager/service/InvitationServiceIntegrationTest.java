@@ -1,6 +1,7 @@
 package dev.vality.orgmanager.service;
 
 import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.config.properties.InvitationExpiryProperties;
 import dev.vality.orgmanager.entity.InvitationEntity;
 import dev.vality.orgmanager.entity.OrganizationEntity;
 import dev.vality.orgmanager.repository.AbstractRepositoryTest;
@@ -8,11 +9,13 @@ import dev.vality.orgmanager.util.TestData;
 import dev.vality.swag.organizations.model.Invitation;
 import dev.vality.swag.organizations.model.InvitationListResult;
 import dev.vality.swag.organizations.model.InvitationStatusName;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,6 +34,12 @@ public class InvitationServiceIntegrationTest extends AbstractRepositoryTest {
     @Autowired
     private InvitationService invitationService;
 
+    @Autowired
+    private InvitationExpiryProperties invitationExpiryProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void checkOnInvitationStatus() {
         InvitationEntity expiredInvite =
@@ -41,6 +50,35 @@ public class InvitationServiceIntegrationTest extends AbstractRepositoryTest {
         assertEquals(InvitationStatusName.EXPIRED.getValue(), expiredInvite.getStatus());
     }
 
+    @Test
+    void checkExpiredStatusInBatches() {
+        Integer batchSize = invitationExpiryProperties.getBatchSize();
+        invitationExpiryProperties.setBatchSize(2);
+        try {
+            List<InvitationEntity> invitations = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                invitations.add(TestData.buildInvitation(ORGANIZATION_ID, INVITATION_ID + "_" + i,
+                        LocalDateTime.now().minusDays(1)));
+            }
+            invitations.add(TestData.buildInvitation(ORGANIZATION_ID, INVITATION_ID, LocalDateTime.now().plusDays(1)));
+            invitationRepository.saveAll(invitations);
+            double expiredBefore = meterRegistry.counter(InvitationService.EXPIRED_INVITATIONS_METRIC).count();
+
+            int expired = invitationService.checkAndModifyExpiredStatus();
+
+            assertEquals(5, expired);
+            assertEquals(5, meterRegistry.counter(InvitationService.EXPIRED_INVITATIONS_METRIC).count()
+                    - expiredBefore);
+            assertEquals(InvitationStatusName.PENDING.getValue(),
+                    invitationRepository.findById(INVITATION_ID).get().getStatus());
+            assertEquals(5, invitationRepository.findAll().stream()
+                    .filter(invitation -> InvitationStatusName.EXPIRED.getValue().equals(invitation.getStatus()))
+                    .count());
+        } finally {
+            invitationExpiryProperties.setBatchSize(batchSize);
+        }
+    }
+
     @Test
     void checkExpiredInviteWithPendingStatus() {
         OrganizationEntity organizationEntity = TestData.buildOrganization(ORGANIZATION_ID, MEMBER_ID);
@@ -9,6 +9,7 @@ import dev.vality.orgmanager.exception.InviteRevokedException;
 import dev.vality.orgmanager.exception.ResourceNotFoundException;
 import dev.vality.orgmanager.repository.InvitationRepository;
 import dev.vality.orgmanager.repository.OrganizationRepository;
+import dev.vality.orgmanager.service.dto.InvitationBatchResult;
 import dev.vality.swag.organizations.model.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,7 +39,7 @@ public class InvitationServiceTest {
     @Mock
     private OrganizationRepository organizationRepository;
     @Mock
-    private MailMessageSender mailMessageSender;
+    private MailOutboxService mailOutboxService;
 
     @InjectMocks
     private InvitationService service;
@@ -61,12 +63,50 @@ public class InvitationServiceTest {
 
         verify(invitationRepository, times(1))
                 .save(entity);
-        verify(mailMessageSender, times(1))
-                .send(anyString(), anyString());
+        verify(mailOutboxService, times(1))
+                .enqueue(anyString(), anyString());
         assertThat(response)
                 .isEqualTo(savedInvitation);
     }
 
+    @Test
+    void shouldCreateBatchSkippingRepeatedInvitees() {
+        InvitationRequest first = TestObjectFactory.testInvitationRequest();
+        InvitationRequest repeated = TestObjectFactory.testInvitationRequest();
+        repeated.getInvitee().getContact().setEmail(first.getInvitee().getContact().getEmail());
+        InvitationEntity entity = TestObjectFactory.buildInvitation("org");
+        Invitation invitation = new Invitation();
+        when(organizationRepository.existsById("org"))
+                .thenReturn(true);
+        when(invitationConverter.toEntity(first, "org"))
+                .thenReturn(entity);
+        when(invitationConverter.toDomain(entity))
+                .thenReturn(invitation);
+
+        List<InvitationBatchResult> response = service.createBatch("org", List.of(first, repeated));
+
+        verify(invitationRepository, times(1))
+                .insertAll(List.of(entity));
+        verify(mailOutboxService, times(1))
+                .enqueueAll(Map.of(first.getInvitee().getContact().getEmail(), entity.getAcceptToken()));
+        assertThat(response)
+                .extracting(InvitationBatchResult::getInvitation)
+                .containsExactly(invitation, null);
+        assertThat(response.get(1).getError())
+                .isNotNull();
+    }
+
+    @Test
+    void shouldNotCreateBatchForMissingOrganization() {
+        when(organizationRepository.existsById("org"))
+                .thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.createBatch("org", List.of(TestObjectFactory.testInvitationRequest())));
+
+        verify(invitationRepository, never()).insertAll(anyList());
+    }
+
     @Test
     void shouldGet() {
         // Given
@@ -0,0 +1,67 @@
+package dev.vality.orgmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.orgmanager.security.AccessTokenAuthentication;
+import dev.vality.orgmanager.security.AccessTokenAuthenticationConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.keycloak.representations.AccessToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class KeycloakServiceTest {
+
+    private final KeycloakService keycloakService = new KeycloakService(new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getAccessTokenReturnsTokenParsedByConverter() {
+        Jwt jwt = testJwt();
+        var authentication = new AccessTokenAuthenticationConverter(keycloakService).convert(jwt);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        AccessToken accessToken = keycloakService.getAccessToken();
+
+        AccessTokenAuthentication accessTokenAuthentication =
+                assertInstanceOf(AccessTokenAuthentication.class, authentication);
+        assertSame(accessTokenAuthentication.getAccessToken(), accessToken);
+        assertSame(accessToken, keycloakService.getAccessToken());
+        assertEquals(jwt.getSubject(), accessToken.getSubject());
+        assertEquals(jwt.getExpiresAt().getEpochSecond(), accessToken.getExp());
+    }
+
+    @Test
+    void getAccessTokenConvertsPlainJwtAuthentication() {
+        Jwt jwt = testJwt();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        AccessToken accessToken = keycloakService.getAccessToken();
+
+        assertEquals(jwt.getSubject(), accessToken.getSubject());
+        assertEquals(jwt.getClaimAsString("email"), accessToken.getEmail());
+    }
+
+    private static Jwt testJwt() {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .id(UUID.randomUUID().toString())
+                .subject(UUID.randomUUID().toString())
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .claim("email", "user@vality.dev")
+                .build();
+    }
+}
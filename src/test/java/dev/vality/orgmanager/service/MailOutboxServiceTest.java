@@ -0,0 +1,123 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.orgmanager.config.properties.MailOutboxProperties;
+import dev.vality.orgmanager.entity.MailOutboxEntity;
+import dev.vality.orgmanager.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+    @Mock
+    private MailMessageSender mailMessageSender;
+
+    private MailOutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MailOutboxProperties();
+        properties.setBatchSize(10);
+        properties.setConcurrency(2);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxBackoff(Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        service = new MailOutboxService(mailOutboxRepository, mailMessageSender, properties,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deliveredMailsAreRemovedAndFailedRescheduled() throws TException {
+        MailOutboxEntity delivered = mail(1L, "ok@vality.dev", 0);
+        MailOutboxEntity failed = mail(2L, "down@vality.dev", 0);
+        when(mailOutboxRepository.findReadyForDispatch(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(delivered, failed));
+        doThrow(new TException("dudoser is down")).when(mailMessageSender).send("body", "down@vality.dev");
+
+        int result = service.dispatch();
+
+        assertThat(result).isEqualTo(1);
+        verify(mailOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        ArgumentCaptor<List<MailOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxRepository).saveAll(captor.capture());
+        MailOutboxEntity rescheduled = captor.getValue().get(0);
+        assertThat(rescheduled.getAttempts()).isEqualTo(1);
+        assertThat(rescheduled.getStatus()).isEqualTo(MailOutboxEntity.PENDING);
+        assertThat(rescheduled.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(rescheduled.getLastError()).isEqualTo("dudoser is down");
+        assertThat(meterRegistry.counter(MailOutboxService.OUTBOX_METRIC, "outcome", MailOutboxService.DELIVERED)
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(MailOutboxService.OUTBOX_METRIC, "outcome", MailOutboxService.RETRY)
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mailIsMarkedFailedAfterMaxAttempts() throws TException {
+        MailOutboxEntity mail = mail(1L, "down@vality.dev", 2);
+        when(mailOutboxRepository.findReadyForDispatch(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(mail));
+        doThrow(new TException("dudoser is down")).when(mailMessageSender).send("body", "down@vality.dev");
+
+        assertThat(service.dispatch()).isZero();
+
+        ArgumentCaptor<List<MailOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxRepository).saveAll(captor.capture());
+        assertThat(captor.getValue().get(0).getStatus()).isEqualTo(MailOutboxEntity.FAILED);
+        assertThat(meterRegistry.counter(MailOutboxService.OUTBOX_METRIC, "outcome", MailOutboxService.FAILED)
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void backoffDoublesUpToMaximum() {
+        assertThat(service.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(service.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(service.backoff(3)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(service.backoff(4)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(service.backoff(30)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private MailOutboxEntity mail(Long id, String email, int attempts) {
+        return MailOutboxEntity.builder()
+                .id(id)
+                .email(email)
+                .body("body")
+                .status(MailOutboxEntity.PENDING)
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
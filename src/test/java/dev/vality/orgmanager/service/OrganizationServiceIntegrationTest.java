@@ -10,16 +10,19 @@ import dev.vality.orgmanager.exception.AccessDeniedException;
 import dev.vality.orgmanager.exception.InviteAlreadyAcceptedException;
 import dev.vality.orgmanager.exception.LastRoleException;
 import dev.vality.orgmanager.repository.AbstractRepositoryTest;
+import dev.vality.orgmanager.service.dto.MemberPage;
 import dev.vality.swag.organizations.model.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static dev.vality.orgmanager.TestObjectFactory.*;
 import static java.util.stream.Collectors.toList;
@@ -215,6 +218,21 @@ public class OrganizationServiceIntegrationTest extends AbstractRepositoryTest {
         assertTrue(userOrgs.getResult().isEmpty());
     }
 
+    @Test
+    @Transactional
+    void shouldClampOrganizationsLimit() {
+        MemberEntity member = memberRepository.save(
+                TestObjectFactory.testMemberEntity(TestObjectFactory.randomString()));
+        OrganizationEntity organization = organizationRepository.save(TestObjectFactory.buildOrganization(member));
+
+        OrganizationSearchResult userOrgs =
+                organizationService.findAllOrganizations(member.getId(), Integer.MAX_VALUE, null);
+
+        assertEquals(1, userOrgs.getResult().size());
+        assertEquals(organization.getId(), userOrgs.getResult().get(0).getId());
+        assertNull(userOrgs.getContinuationToken());
+    }
+
     @Test
     @Transactional
     void shouldGetListOrgMembers() {
@@ -257,6 +275,48 @@ public class OrganizationServiceIntegrationTest extends AbstractRepositoryTest {
         assertThat(roles, not(hasItem(activeAnotherMemberRoleInOrg.getId())));
     }
 
+    @Test
+    @Transactional
+    void shouldPageOrgMembers() {
+        OrganizationEntity organization = TestObjectFactory.buildOrganization();
+        List<MemberEntity> members = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MemberEntity member = TestObjectFactory.testMemberEntity(TestObjectFactory.randomString());
+            MemberRoleEntity role = buildMemberRole("Accountant", organization.getId());
+            role.setActive(Boolean.TRUE);
+            member.setRoles(Set.of(memberRoleRepository.save(role)));
+            members.add(member);
+        }
+        memberRepository.saveAll(members);
+        organization.setMembers(Set.copyOf(members));
+        organizationRepository.save(organization);
+
+        MemberPage firstPage = organizationService.listMembers(organization.getId(), 2, null);
+        MemberPage secondPage =
+                organizationService.listMembers(organization.getId(), 2, firstPage.getContinuationToken());
+        MemberPage lastPage =
+                organizationService.listMembers(organization.getId(), 2, secondPage.getContinuationToken());
+
+        List<String> pagedIds = Stream.of(firstPage, secondPage, lastPage)
+                .map(MemberPage::getMembers)
+                .flatMap(Collection::stream)
+                .map(Member::getId)
+                .toList();
+        List<String> expectedIds = members.stream()
+                .map(MemberEntity::getId)
+                .sorted()
+                .toList();
+        assertEquals(expectedIds, pagedIds);
+        assertNotNull(firstPage.getContinuationToken());
+        assertNotNull(secondPage.getContinuationToken());
+        assertEquals(1, lastPage.getMembers().size());
+        assertNull(lastPage.getContinuationToken());
+        assertTrue(Stream.of(firstPage, secondPage, lastPage)
+                .map(MemberPage::getMembers)
+                .flatMap(Collection::stream)
+                .allMatch(member -> member.getRoles().size() == 1));
+    }
+
     @Test
     @Transactional
     void shouldThrowLasRoleException() {
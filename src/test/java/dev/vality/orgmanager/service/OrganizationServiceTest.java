@@ -5,10 +5,13 @@ import dev.vality.orgmanager.converter.MemberConverter;
 import dev.vality.orgmanager.converter.OrganizationConverter;
 import dev.vality.orgmanager.entity.MemberEntity;
 import dev.vality.orgmanager.entity.OrganizationEntity;
+import dev.vality.orgmanager.event.MembershipChangedEvent;
 import dev.vality.orgmanager.exception.PartyManagementException;
 import dev.vality.orgmanager.exception.ResourceNotFoundException;
 import dev.vality.orgmanager.repository.MemberRepository;
+import dev.vality.orgmanager.repository.MemberRoleRepository;
 import dev.vality.orgmanager.repository.OrganizationRepository;
+import dev.vality.orgmanager.service.dto.MemberPage;
 import dev.vality.orgmanager.service.dto.MemberWithRoleDto;
 import dev.vality.swag.organizations.model.Member;
 import dev.vality.swag.organizations.model.MemberOrgListResult;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -40,6 +44,10 @@ class OrganizationServiceTest {
     private MemberConverter memberConverter;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private MemberRoleRepository memberRoleRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private OrganizationService service;
 
@@ -69,6 +77,8 @@ class OrganizationServiceTest {
                 .save(entity);
         verify(organizationConverter, times(1))
                 .toDomain(savedEntity);
+        verify(eventPublisher, times(1))
+                .publishEvent(MembershipChangedEvent.ofMember(savedEntity.getId(), OWNER_ID));
         assertThat(response)
                 .isEqualTo(savedOrganization);
         assertThat(response.getParty())
@@ -130,6 +140,50 @@ class OrganizationServiceTest {
                 .containsExactly(member);
     }
 
+    @Test
+    void shouldListMembersPage() {
+        String orgId = TestObjectFactory.randomString();
+        Member first = new Member().id("a");
+        Member second = new Member().id("b");
+        Member third = new Member().id("c");
+        List<MemberWithRoleDto> memberWithRoleList = List.of(getMemberWithRoleDto());
+
+        when(organizationRepository.existsById(orgId))
+                .thenReturn(true);
+        when(memberRepository.getOrgMemberPage(orgId, "a", 3))
+                .thenReturn(memberWithRoleList);
+        when(memberConverter.toDomain(memberWithRoleList))
+                .thenReturn(List.of(first, second, third));
+
+        MemberPage response = service.listMembers(orgId, 2, "a");
+
+        assertThat(response.getMembers())
+                .containsExactly(first, second);
+        assertThat(response.getContinuationToken())
+                .isEqualTo("b");
+    }
+
+    @Test
+    void shouldListLastMembersPage() {
+        String orgId = TestObjectFactory.randomString();
+        Member member = new Member().id("a");
+        List<MemberWithRoleDto> memberWithRoleList = List.of(getMemberWithRoleDto());
+
+        when(organizationRepository.existsById(orgId))
+                .thenReturn(true);
+        when(memberRepository.getOrgMemberPage(orgId, "", OrganizationService.DEFAULT_MEMBER_LIMIT + 1))
+                .thenReturn(memberWithRoleList);
+        when(memberConverter.toDomain(memberWithRoleList))
+                .thenReturn(List.of(member));
+
+        MemberPage response = service.listMembers(orgId, null, null);
+
+        assertThat(response.getMembers())
+                .containsExactly(member);
+        assertThat(response.getContinuationToken())
+                .isNull();
+    }
+
     private MemberWithRoleDto getMemberWithRoleDto() {
         return new MemberWithRoleDto() {
             @Override
@@ -182,39 +236,40 @@ class OrganizationServiceTest {
         String orgId = TestObjectFactory.randomString();
         String userId = TestObjectFactory.randomString();
 
-        when(organizationRepository.findById(orgId))
-                .thenReturn(Optional.empty());
+        when(memberRepository.existsMembership(orgId, userId))
+                .thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> service.getOrgMember(userId, orgId));
+        verify(memberRepository, never()).findById(userId);
     }
 
     @Test
     void shouldThrowExceptionIfUserNotMemberOfOrganization() {
         String orgId = TestObjectFactory.randomString();
-        OrganizationEntity organizationEntity = new OrganizationEntity();
-        organizationEntity.setId(orgId);
         String userId = TestObjectFactory.randomString();
 
-        when(organizationRepository.findById(orgId))
-                .thenReturn(Optional.of(organizationEntity));
+        when(memberRepository.existsMembership(orgId, userId))
+                .thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> service.getOrgMember(userId, orgId));
+        verify(memberRoleRepository, never()).findActiveByMemberIdAndOrganizationId(userId, orgId);
     }
 
 
     @Test
     void shouldGetOrgMember() {
         String orgId = TestObjectFactory.randomString();
-        OrganizationEntity organizationEntity = new OrganizationEntity();
-        organizationEntity.setId(orgId);
         String userId = TestObjectFactory.randomString();
         MemberEntity memberEntity = new MemberEntity();
         memberEntity.setId(userId);
-        organizationEntity.setMembers(Set.of(memberEntity));
         Member expectedMember = new Member();
 
-        when(organizationRepository.findById(orgId))
-                .thenReturn(Optional.of(organizationEntity));
+        when(memberRepository.existsMembership(orgId, userId))
+                .thenReturn(true);
+        when(memberRepository.findById(userId))
+                .thenReturn(Optional.of(memberEntity));
+        when(memberRoleRepository.findActiveByMemberIdAndOrganizationId(userId, orgId))
+                .thenReturn(Collections.emptyList());
         when(memberConverter.toDomain(memberEntity, Collections.emptyList()))
                 .thenReturn(expectedMember);
 
@@ -222,5 +277,6 @@ class OrganizationServiceTest {
 
         assertThat(actualMember)
                 .isEqualTo(expectedMember);
+        verify(organizationRepository, never()).findById(orgId);
     }
 }
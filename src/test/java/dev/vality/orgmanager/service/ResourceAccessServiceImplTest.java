@@ -19,6 +19,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
@@ -31,6 +32,8 @@ class ResourceAccessServiceImplTest {
     private OrganizationService organizationService;
     @Mock
     private MemberRoleService memberRoleService;
+    @Mock
+    private CallerContext callerContext;
 
     private ResourceAccessService resourceAccessService;
 
@@ -38,8 +41,9 @@ class ResourceAccessServiceImplTest {
     void setUp() {
         accessProperties = new AccessProperties();
         accessProperties.setEnabled(true);
-        resourceAccessService =
-                new ResourceAccessServiceImpl(accessProperties, bouncerService, organizationService, memberRoleService);
+        resourceAccessService = new ResourceAccessServiceImpl(
+                accessProperties, bouncerService, organizationService, memberRoleService, callerContext);
+        when(callerContext.getOperationId()).thenReturn("getOrg");
     }
 
     @Test
@@ -57,7 +61,27 @@ class ResourceAccessServiceImplTest {
 
         var exception = assertThrows(AccessDeniedException.class, () -> resourceAccessService.checkRights());
 
-        assertThat(exception.getMessage(), containsString("No rights to perform"));
+        assertThat(exception.getMessage(), containsString("No rights to perform getOrg"));
+    }
+
+    @Test
+    void checkRightsPassesOperationIdToBouncer() {
+        when(callerContext.getOperationId()).thenReturn("listOrgMembers");
+        when(bouncerService.havePrivileges(any(BouncerContextDto.class))).thenReturn(true);
+
+        resourceAccessService.checkRights(ResourceDto.builder().orgId(TestObjectFactory.randomString()).build());
+
+        verify(bouncerService)
+                .havePrivileges(argThat(context -> "listOrgMembers".equals(context.getOperationName())));
+    }
+
+    @Test
+    void checkRightsWithoutResolvedOperation() {
+        when(callerContext.getOperationId()).thenReturn(null);
+
+        assertThrows(IllegalStateException.class, () -> resourceAccessService.checkRights());
+
+        verify(bouncerService, never()).havePrivileges(any(BouncerContextDto.class));
     }
 
     @Test
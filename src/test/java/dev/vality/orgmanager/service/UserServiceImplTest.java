@@ -1,6 +1,10 @@
 package dev.vality.orgmanager.service;
 
+import dev.vality.bouncer.context.v1.OrgRole;
+import dev.vality.bouncer.context.v1.Organization;
+import dev.vality.bouncer.context.v1.User;
 import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.converter.BouncerContextConverter;
 import dev.vality.orgmanager.entity.MemberEntity;
 import dev.vality.orgmanager.entity.MemberRoleEntity;
 import dev.vality.orgmanager.entity.OrganizationEntity;
@@ -10,7 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -124,4 +130,46 @@ class UserServiceImplTest extends AbstractRepositoryTest {
         assertEquals(1, userInfo.getOrganizations().size());
         assertEquals(organization.getId(), userInfo.getOrganizations().iterator().next().getId());
     }
+
+    @Test
+    void findUserGroupsRolesPerOrganization() {
+        String memberId = TestObjectFactory.randomString();
+        var member = TestObjectFactory.testMemberEntity(memberId);
+        OrganizationEntity organization = TestObjectFactory.buildOrganization(member);
+        MemberRoleEntity administrator = TestObjectFactory.buildMemberRole("Administrator", organization.getId());
+        MemberRoleEntity accountant = TestObjectFactory.buildMemberRole("Accountant", organization.getId());
+        OrganizationEntity ownedOrganization = TestObjectFactory.buildOrganization();
+        ownedOrganization.setOwner(memberId);
+        memberRoleRepository.saveAll(List.of(administrator, accountant));
+        member.setRoles(Set.of(administrator, accountant));
+        memberRepository.save(member);
+        organizationRepository.saveAll(List.of(organization, ownedOrganization));
+
+        UserInfo userInfo = userService.findById(memberId);
+        User user = new BouncerContextConverter()
+                .toUser(userInfo.getMember(), userInfo.getOrganizations(), userInfo.getRolesByOrganization());
+
+        Map<String, Organization> orgs = user.getOrgs().stream()
+                .collect(Collectors.toMap(Organization::getId, Function.identity()));
+        assertEquals(ownedOrganization.getOwner(), orgs.get(ownedOrganization.getId()).getOwner().getId());
+        assertEquals(ownedOrganization.getParty(), orgs.get(ownedOrganization.getId()).getParty().getId());
+        assertEquals(Set.of(), orgs.get(ownedOrganization.getId()).getRoles());
+        assertEquals(Set.of("Administrator", "Accountant"), orgs.get(organization.getId()).getRoles().stream()
+                .map(OrgRole::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void findUserWithoutRolesLeavesOrganizationRolesUnset() {
+        String userId = TestObjectFactory.randomString();
+        OrganizationEntity organizationEntity = TestObjectFactory.buildOrganization();
+        organizationEntity.setOwner(userId);
+        organizationRepository.save(organizationEntity);
+
+        UserInfo userInfo = userService.findById(userId);
+        User user = new BouncerContextConverter()
+                .toUser(userInfo.getMember(), userInfo.getOrganizations(), userInfo.getRolesByOrganization());
+
+        assertNull(user.getOrgs().iterator().next().getRoles());
+    }
 }
@@ -0,0 +1,132 @@
+package dev.vality.orgmanager.service;
+
+import dev.vality.orgmanager.TestObjectFactory;
+import dev.vality.orgmanager.config.properties.InvitationExpiryProperties;
+import dev.vality.orgmanager.entity.InvitationEntity;
+import dev.vality.orgmanager.entity.MemberRoleEntity;
+import dev.vality.orgmanager.entity.OrganizationEntity;
+import dev.vality.orgmanager.repository.AbstractRepositoryTest;
+import dev.vality.orgmanager.util.StatementCounter;
+import dev.vality.orgmanager.util.TestData;
+import dev.vality.swag.organizations.model.InvitationRequest;
+import dev.vality.swag.organizations.model.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WriteBatchingTest extends AbstractRepositoryTest {
+
+    private static final int ROLES = 20;
+    private static final int EXPIRED_INVITATIONS = 250;
+    private static final int EXPIRY_BATCH_SIZE = 100;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private InvitationService invitationService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private InvitationExpiryProperties invitationExpiryProperties;
+
+    @BeforeEach
+    void resetCounter() {
+        statementCounter.reset();
+    }
+
+    @Test
+    void shouldBatchInvitationRoleInserts() {
+        OrganizationEntity organization = organizationRepository.save(TestObjectFactory.buildOrganization());
+        InvitationRequest invitation = TestData.buildInvitationRequest();
+        invitation.getInvitee().setRoles(IntStream.range(0, ROLES)
+                .mapToObj(i -> TestData.buildMemberRole().scope(TestData.buildMemberRole().getScope()
+                        .resourceId("resource-" + i)))
+                .toList());
+        statementCounter.reset();
+
+        invitationService.create(organization.getId(), invitation, "");
+
+        assertThat(statementCounter.executions("insert into org_manager.member_role ")).isEqualTo(1);
+        assertThat(statementCounter.batchedRows("insert into org_manager.member_role ")).isEqualTo(ROLES);
+        assertThat(statementCounter.executions("insert into org_manager.invitation_to_member_role ")).isEqualTo(1);
+        assertThat(statementCounter.batchedRows("insert into org_manager.invitation_to_member_role "))
+                .isEqualTo(ROLES);
+        // a new invitation is persisted without checking whether it already exists
+        assertThat(statementCounter.executions("select")).isZero();
+    }
+
+    @Test
+    void shouldBatchMembershipInsertsOnJoin() {
+        OrganizationEntity organization = organizationRepository.save(TestObjectFactory.buildOrganization());
+        Set<MemberRoleEntity> roles = IntStream.range(0, ROLES)
+                .mapToObj(i -> TestObjectFactory.buildMemberRole("Manager", organization.getId()))
+                .collect(Collectors.toSet());
+        InvitationEntity invitation = TestObjectFactory.buildInvitation(organization.getId(), "invitee@mail.ru");
+        invitation.setInviteeRoles(roles);
+        invitationRepository.save(invitation);
+        statementCounter.reset();
+
+        organizationService.joinOrganization(invitation.getAcceptToken(), "joined-member", "invitee@mail.ru");
+
+        assertThat(statementCounter.executions("insert into org_manager.member_to_member_role ")).isEqualTo(1);
+        assertThat(statementCounter.batchedRows("insert into org_manager.member_to_member_role "))
+                .isEqualTo(ROLES);
+    }
+
+    @Test
+    void shouldExpireInvitationsWithOneStatementPerBatch() {
+        Integer batchSize = invitationExpiryProperties.getBatchSize();
+        invitationExpiryProperties.setBatchSize(EXPIRY_BATCH_SIZE);
+        try {
+            List<InvitationEntity> invitations = IntStream.range(0, EXPIRED_INVITATIONS)
+                    .mapToObj(i -> TestData.buildInvitation("orgId", "invitation-" + i,
+                            LocalDateTime.now().minusDays(1)))
+                    .toList();
+            invitationRepository.saveAll(invitations);
+            assertThat(statementCounter.executions("insert into org_manager.invitation ")).isLessThan(10);
+            statementCounter.reset();
+
+            int expired = invitationService.checkAndModifyExpiredStatus();
+
+            assertThat(expired).isEqualTo(EXPIRED_INVITATIONS);
+            assertThat(statementCounter.executions("update org_manager.invitation "))
+                    .isEqualTo((EXPIRED_INVITATIONS + EXPIRY_BATCH_SIZE - 1) / EXPIRY_BATCH_SIZE);
+        } finally {
+            invitationExpiryProperties.setBatchSize(batchSize);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource(StatementCounter statementCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? statementCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.vality.orgmanager.servlet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vality.orgmanager.repository.MemberRepository;
+import dev.vality.orgmanager.service.MembershipCheckService;
+import dev.vality.orgmanager.service.dto.MembershipCheck;
+import dev.vality.orgmanager.service.dto.MembershipCheckRequest;
+import dev.vality.orgmanager.service.dto.MembershipCheckResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MembershipCheckServletTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private MemberRepository memberRepository;
+    private MembershipCheckServlet servlet;
+
+    @BeforeEach
+    void setUp() {
+        servlet = new MembershipCheckServlet(new MembershipCheckService(memberRepository), objectMapper);
+    }
+
+    @Test
+    void shouldAnswerChecksWithBitmap() throws Exception {
+        List<MembershipCheck> checks = List.of(
+                new MembershipCheck("user", "org", null),
+                new MembershipCheck("user", "org", "Administrator"),
+                new MembershipCheck("user", "other-org", null));
+        BitSet holds = new BitSet();
+        holds.set(0);
+        holds.set(2);
+        when(memberRepository.checkMemberships(any())).thenReturn(holds);
+
+        MockHttpServletResponse response = post(objectMapper.writeValueAsBytes(new MembershipCheckRequest(checks)));
+
+        assertEquals(200, response.getStatus());
+        MembershipCheckResult result =
+                objectMapper.readValue(response.getContentAsByteArray(), MembershipCheckResult.class);
+        assertEquals(3, result.getSize());
+        assertEquals(holds, BitSet.valueOf(Base64.getDecoder().decode(result.getBitmap())));
+    }
+
+    @Test
+    void shouldRejectTooManyChecks() throws Exception {
+        List<MembershipCheck> checks = Collections.nCopies(MembershipCheckService.MAX_CHECKS + 1,
+                new MembershipCheck("user", "org", null));
+
+        MockHttpServletResponse response = post(objectMapper.writeValueAsBytes(new MembershipCheckRequest(checks)));
+
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void shouldRejectMalformedRequest() throws Exception {
+        MockHttpServletResponse response = post("{\"checks\": [".getBytes());
+
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(memberRepository);
+    }
+
+    private MockHttpServletResponse post(byte[] body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth-context/membership");
+        request.setContentType("application/json");
+        request.setContent(body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        servlet.service(request, response);
+        return response;
+    }
+}
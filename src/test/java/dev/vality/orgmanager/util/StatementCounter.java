@@ -0,0 +1,89 @@
+package dev.vality.orgmanager.util;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts database round trips of prepared statements: every execute call and every executeBatch call is one
+ * round trip, rows added with addBatch are counted separately.
+ */
+public class StatementCounter {
+
+    private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> batchedRows = new ConcurrentHashMap<>();
+
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) -> result instanceof Connection connection
+                ? wrap(connection)
+                : result);
+    }
+
+    public int executions(String sqlPrefix) {
+        return sum(executions, sqlPrefix);
+    }
+
+    public int batchedRows(String sqlPrefix) {
+        return sum(batchedRows, sqlPrefix);
+    }
+
+    public void reset() {
+        executions.clear();
+        batchedRows.clear();
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+                method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                        ? wrap(statement, normalize((String) args[0]))
+                        : result);
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            if (method.getName().startsWith("execute")) {
+                executions.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+            } else if (method.getName().equals("addBatch")) {
+                batchedRows.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    private static int sum(Map<String, AtomicInteger> counters, String sqlPrefix) {
+        String prefix = normalize(sqlPrefix);
+        return counters.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+    }
+
+    private static String normalize(String sql) {
+        return sql.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return mapper.map(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper {
+        Object map(Method method, Object[] args, Object result);
+    }
+}
@@ -57,7 +57,7 @@ public class TestData {
     ) {
         return InvitationEntity.builder()
                 .id(invitationId)
-                .acceptToken("token")
+                .acceptToken("token-" + invitationId)
                 .createdAt(LocalDateTime.now())
                 .expiresAt(expiresAt)
                 .inviteeContactEmail("contactEmail")
@@ -66,14 +66,14 @@ public class TestData {
                 .status(statusName.getValue())
                 .inviteeRoles(Set.of(
                         MemberRoleEntity.builder()
-                                .id("role1")
+                                .id(invitationId + "-role1")
                                 .roleId("Administrator")
                                 .resourceId("resource1")
                                 .scopeId(ResourceScopeId.SHOP.getValue())
                                 .organizationId(organizationId)
                                 .build(),
                         MemberRoleEntity.builder()
-                                .id("role2")
+                                .id(invitationId + "-role2")
                                 .roleId("Manager")
                                 .resourceId("resource2")
                                 .scopeId(ResourceScopeId.SHOP.getValue())
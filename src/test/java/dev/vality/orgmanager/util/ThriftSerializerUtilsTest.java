@@ -0,0 +1,34 @@
+package dev.vality.orgmanager.util;
+
+import dev.vality.bouncer.context.v1.ContextFragment;
+import dev.vality.orgmanager.TestObjectFactory;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ThriftSerializerUtilsTest {
+
+    @Test
+    void serializeMatchesThriftSerializer() throws TException {
+        ContextFragment fragment = new ContextFragment().setUser(TestObjectFactory.testUser());
+
+        assertArrayEquals(new TSerializer().serialize(fragment), ThriftSerializerUtils.serialize(fragment));
+    }
+
+    @Test
+    void serializeReturnsIndependentArrays() throws TException {
+        ContextFragment first = new ContextFragment().setUser(TestObjectFactory.testUser());
+        ContextFragment second = new ContextFragment().setUser(TestObjectFactory.testUser());
+
+        byte[] firstBytes = ThriftSerializerUtils.serialize(first);
+        ThriftSerializerUtils.serialize(second);
+
+        ContextFragment deserialized = new ContextFragment();
+        new TDeserializer().deserialize(deserialized, firstBytes);
+        assertEquals(first, deserialized);
+    }
+}